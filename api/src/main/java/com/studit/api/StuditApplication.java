@@ -0,0 +1,12 @@
+package com.studit.api;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class StuditApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(StuditApplication.class, args);
+    }
+}
@@ -0,0 +1,21 @@
+package com.studit.api.attachment;
+
+import java.time.Instant;
+
+/**
+ * A file shared in a study group.
+ *
+ * @param storageKey where the content lives in the object store
+ * @param sha256     hex digest of the content, also served as its ETag
+ */
+public record Attachment(
+        long id,
+        long groupId,
+        long uploaderId,
+        String fileName,
+        String contentType,
+        long size,
+        String sha256,
+        String storageKey,
+        Instant createdAt) {
+}
@@ -0,0 +1,172 @@
+package com.studit.api.attachment;
+
+import com.studit.api.support.CursorPageResponse;
+import com.studit.api.support.RequestHeaders;
+import com.studit.core.paging.PageRequest;
+import com.studit.core.storage.ObjectContent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Uploads take the file as the raw request body rather than
+ * {@code multipart/form-data}, so the container never spools it to a
+ * temporary file of its own; the name travels as a query parameter.
+ * <p>
+ * Downloads honour a single byte range. On Tomcat the file is handed to
+ * the connector's {@code sendfile} support, which sends it from the page
+ * cache to the socket without passing through the JVM; elsewhere it is
+ * written with {@link java.nio.channels.FileChannel#transferTo}.
+ * <p>
+ * The stored content type is the uploader's claim. Browsers are told not to
+ * sniff past it, and only raster images are offered inline; everything
+ * else, SVG included since it can carry script, downloads as a file.
+ */
+@RestController
+public class AttachmentController {
+
+    private static final String NOSNIFF_HEADER = "X-Content-Type-Options";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final AttachmentService service;
+
+    public AttachmentController(AttachmentService service) {
+        this.service = service;
+    }
+
+    @PostMapping("/api/study-groups/{groupId}/attachments")
+    public ResponseEntity<AttachmentResponse> upload(@PathVariable long groupId,
+                                                     @RequestHeader(RequestHeaders.MEMBER_ID) long memberId,
+                                                     @RequestParam String name,
+                                                     @RequestHeader(value = HttpHeaders.CONTENT_TYPE,
+                                                             defaultValue = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                                                     String contentType,
+                                                     HttpServletRequest request,
+                                                     InputStream body) throws IOException {
+        Attachment attachment = service.upload(groupId, memberId, name, contentType,
+                request.getContentLengthLong(), body);
+        return ResponseEntity.created(URI.create("/api/attachments/" + attachment.id()))
+                .body(AttachmentResponse.from(attachment));
+    }
+
+    @GetMapping("/api/study-groups/{groupId}/attachments")
+    public CursorPageResponse<AttachmentResponse> list(@PathVariable long groupId,
+                                                       @RequestHeader(RequestHeaders.MEMBER_ID) long memberId,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size) {
+        return CursorPageResponse.from(service.list(groupId, memberId, PageRequest.of(cursor, size)),
+                AttachmentResponse::from);
+    }
+
+    @GetMapping("/api/attachments/{id}")
+    public AttachmentResponse get(@PathVariable long id, @RequestHeader(RequestHeaders.MEMBER_ID) long memberId) {
+        return AttachmentResponse.from(service.get(id, memberId));
+    }
+
+    @GetMapping("/api/attachments/{id}/content")
+    public void download(@PathVariable long id,
+                         @RequestHeader(RequestHeaders.MEMBER_ID) long memberId,
+                         @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                         @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Attachment attachment = service.get(id, memberId);
+        String etag = "\"" + attachment.sha256() + "\"";
+        try (ObjectContent content = service.open(attachment)) {
+            long size = content.size();
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(NOSNIFF_HEADER, "nosniff");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    (isInlineImage(attachment.contentType()) ? ContentDisposition.inline()
+                            : ContentDisposition.attachment())
+                            .filename(attachment.fileName(), StandardCharsets.UTF_8)
+                            .build()
+                            .toString());
+            long start = 0;
+            long end = size - 1;
+            Optional<HttpRange> requested = range != null && (ifRange == null || ifRange.equals(etag))
+                    ? singleRange(range)
+                    : Optional.empty();
+            if (requested.isPresent()) {
+                start = requested.get().getRangeStart(size);
+                end = requested.get().getRangeEnd(size);
+                if (start >= size || start > end) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+            long length = end - start + 1;
+            response.setContentType(attachment.contentType());
+            response.setContentLengthLong(length);
+            if (length == 0 || "HEAD".equals(request.getMethod())) {
+                return;
+            }
+            Optional<Path> file = content.file();
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && file.isPresent()) {
+                // Tomcat opens the file again after this method returns; keys are
+                // never reused, so it sees the same content unless it was deleted.
+                request.setAttribute(SENDFILE_FILENAME, file.get().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+            } else {
+                content.transferTo(start, length, Channels.newChannel(response.getOutputStream()));
+            }
+        }
+    }
+
+    @DeleteMapping("/api/attachments/{id}")
+    public ResponseEntity<Void> delete(@PathVariable long id,
+                                       @RequestHeader(RequestHeaders.MEMBER_ID) long memberId) throws IOException {
+        service.delete(id, memberId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static boolean isInlineImage(String contentType) {
+        try {
+            MediaType type = MediaType.parseMediaType(contentType);
+            return "image".equals(type.getType()) && !type.getSubtype().contains("svg");
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * A malformed header and a request for several ranges are both answered
+     * with the whole file, as RFC 9110 allows.
+     */
+    private static Optional<HttpRange> singleRange(String header) {
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? Optional.of(ranges.get(0)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
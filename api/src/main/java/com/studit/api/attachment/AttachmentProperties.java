@@ -0,0 +1,16 @@
+package com.studit.api.attachment;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * @param directory root of the local object store
+ * @param maxSize   largest attachment accepted
+ */
+@ConfigurationProperties("studit.attachment")
+public record AttachmentProperties(
+        @DefaultValue("data/attachments") Path directory,
+        @DefaultValue("50MB") DataSize maxSize) {
+}
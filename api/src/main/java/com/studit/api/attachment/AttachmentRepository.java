@@ -0,0 +1,89 @@
+package com.studit.api.attachment;
+
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.PageRequest;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Attachment metadata; the content itself is in the object store. Group
+ * listings seek on the attachment id through a {@code (group_id, id)}
+ * index, like the rosters.
+ */
+@Repository
+public class AttachmentRepository {
+
+    private static final String COLUMNS = """
+            id, group_id, uploader_id, file_name, content_type, size_bytes, sha256, storage_key, created_at
+            """;
+
+    private final JdbcClient jdbc;
+
+    public AttachmentRepository(JdbcClient jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public long insert(Attachment attachment) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.sql("""
+                        INSERT INTO attachment (group_id, uploader_id, file_name, content_type, size_bytes,
+                                                sha256, storage_key, created_at)
+                        VALUES (:groupId, :uploaderId, :fileName, :contentType, :size, :sha256, :storageKey,
+                                :createdAt)
+                        """)
+                .param("groupId", attachment.groupId())
+                .param("uploaderId", attachment.uploaderId())
+                .param("fileName", attachment.fileName())
+                .param("contentType", attachment.contentType())
+                .param("size", attachment.size())
+                .param("sha256", attachment.sha256())
+                .param("storageKey", attachment.storageKey())
+                .param("createdAt", attachment.createdAt())
+                .update(keys, "id");
+        return keys.getKeyAs(Long.class);
+    }
+
+    public Optional<Attachment> findById(long id) {
+        return jdbc.sql("SELECT " + COLUMNS + " FROM attachment WHERE id = ?")
+                .param(id)
+                .query(AttachmentRepository::map)
+                .optional();
+    }
+
+    public boolean delete(long id) {
+        return jdbc.sql("DELETE FROM attachment WHERE id = ?")
+                .param(id)
+                .update() > 0;
+    }
+
+    /**
+     * Newest attachments of a group first.
+     */
+    public CursorPage<Attachment> findByGroup(long groupId, PageRequest page) {
+        List<Attachment> rows = jdbc.sql("SELECT " + COLUMNS + """
+                        FROM attachment
+                        WHERE group_id = :groupId AND id < :after
+                        ORDER BY group_id DESC, id DESC
+                        LIMIT :limit
+                        """)
+                .param("groupId", groupId)
+                .param("after", page.isFirst() ? Long.MAX_VALUE : page.after().singleKey())
+                .param("limit", page.fetchSize())
+                .query(AttachmentRepository::map)
+                .list();
+        return CursorPage.fromOverfetch(rows, page, Attachment::id);
+    }
+
+    private static Attachment map(ResultSet rs, int row) throws SQLException {
+        return new Attachment(rs.getLong("id"), rs.getLong("group_id"), rs.getLong("uploader_id"),
+                rs.getString("file_name"), rs.getString("content_type"), rs.getLong("size_bytes"),
+                rs.getString("sha256"), rs.getString("storage_key"), rs.getObject("created_at", Instant.class));
+    }
+}
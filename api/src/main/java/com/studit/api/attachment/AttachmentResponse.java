@@ -0,0 +1,20 @@
+package com.studit.api.attachment;
+
+import java.time.Instant;
+
+public record AttachmentResponse(
+        long id,
+        long groupId,
+        long uploaderId,
+        String fileName,
+        String contentType,
+        long size,
+        String sha256,
+        Instant createdAt) {
+
+    static AttachmentResponse from(Attachment attachment) {
+        return new AttachmentResponse(attachment.id(), attachment.groupId(), attachment.uploaderId(),
+                attachment.fileName(), attachment.contentType(), attachment.size(), attachment.sha256(),
+                attachment.createdAt());
+    }
+}
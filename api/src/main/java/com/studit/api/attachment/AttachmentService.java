@@ -0,0 +1,194 @@
+package com.studit.api.attachment;
+
+import com.studit.api.group.GroupMemberRepository;
+import com.studit.api.group.StudyGroupChangedEvent;
+import com.studit.api.group.StudyGroupChangedEvent.Change;
+import com.studit.api.group.StudyGroupService;
+import com.studit.api.support.BadRequestException;
+import com.studit.api.support.ForbiddenException;
+import com.studit.api.support.NotFoundException;
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.PageRequest;
+import com.studit.core.storage.LocalFileObjectStorage;
+import com.studit.core.storage.ObjectContent;
+import com.studit.core.storage.ObjectStorage;
+import com.studit.core.storage.ObjectTooLargeException;
+import com.studit.core.storage.StoredObject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Content goes to the object store before the row is written and is
+ * deleted after the row is, so a row never points at missing content. A
+ * crash between the two steps can leave an unreferenced object behind,
+ * never a dangling row.
+ */
+@Service
+public class AttachmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttachmentService.class);
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    /** Width of the {@code content_type} column. */
+    private static final int MAX_CONTENT_TYPE_LENGTH = 255;
+
+    private final AttachmentRepository repository;
+    private final GroupMemberRepository memberships;
+    private final StudyGroupService groups;
+    private final ObjectStorage storage;
+    private final Clock clock;
+    private final long maxBytes;
+
+    /**
+     * Content goes to the declared {@link ObjectStorage} bean, such as an
+     * S3-compatible one, or to local disk under
+     * {@code studit.attachment.directory} when there is none; every instance
+     * then needs to see the same directory.
+     */
+    public AttachmentService(AttachmentRepository repository, GroupMemberRepository memberships,
+                             StudyGroupService groups, ObjectProvider<ObjectStorage> storage, Clock clock,
+                             AttachmentProperties properties) {
+        this.repository = repository;
+        this.memberships = memberships;
+        this.groups = groups;
+        this.storage = storage.getIfAvailable(() -> new LocalFileObjectStorage(properties.directory()));
+        this.clock = clock;
+        this.maxBytes = properties.maxSize().toBytes();
+    }
+
+    /**
+     * Streams {@code body} into the object store; only members of the
+     * group may upload, list or download its attachments. The name and
+     * content type are checked before any of the body is read.
+     *
+     * @param contentLength declared length, or {@code -1} for a chunked body
+     */
+    public Attachment upload(long groupId, long memberId, String fileName, String contentType, long contentLength,
+                             InputStream body) throws IOException {
+        String name = baseName(fileName);
+        String type = mediaType(contentType);
+        requireMember(groupId, memberId);
+        if (contentLength > maxBytes) {
+            throw new ObjectTooLargeException(maxBytes);
+        }
+        String key = "groups/" + groupId + "/" + UUID.randomUUID();
+        StoredObject stored = storage.put(key, body, maxBytes);
+        Attachment draft = new Attachment(0L, groupId, memberId, name, type, stored.size(), stored.sha256(), key,
+                clock.instant());
+        try {
+            long id = repository.insert(draft);
+            return new Attachment(id, groupId, memberId, name, type, stored.size(), stored.sha256(), key,
+                    draft.createdAt());
+        } catch (RuntimeException e) {
+            storage.delete(key);
+            throw e;
+        }
+    }
+
+    /**
+     * Attachments are only visible to members of their group, like uploads.
+     */
+    public Attachment get(long id, long memberId) {
+        Attachment attachment = find(id);
+        requireMember(attachment.groupId(), memberId);
+        return attachment;
+    }
+
+    public CursorPage<Attachment> list(long groupId, long memberId, PageRequest page) {
+        requireMember(groupId, memberId);
+        return repository.findByGroup(groupId, page);
+    }
+
+    /**
+     * The caller must close the returned content.
+     */
+    public ObjectContent open(Attachment attachment) throws IOException {
+        return storage.open(attachment.storageKey())
+                .orElseThrow(() -> new NotFoundException("content of attachment", attachment.id()));
+    }
+
+    /**
+     * Only the uploader may delete an attachment.
+     */
+    public void delete(long id, long memberId) throws IOException {
+        Attachment attachment = find(id);
+        if (attachment.uploaderId() != memberId) {
+            throw new ForbiddenException("attachment " + id + " was not uploaded by member " + memberId);
+        }
+        if (repository.delete(id)) {
+            storage.delete(attachment.storageKey());
+        }
+    }
+
+    /**
+     * The rows go with the group through the foreign key; this removes the
+     * content.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StudyGroupChangedEvent event) {
+        if (event.change() != Change.DELETED) {
+            return;
+        }
+        try {
+            storage.deleteAll("groups/" + event.groupId() + "/");
+        } catch (IOException e) {
+            log.warn("Could not delete the attachments of study group {}", event.groupId(), e);
+        }
+    }
+
+    private Attachment find(long id) {
+        return repository.findById(id).orElseThrow(() -> new NotFoundException("attachment", id));
+    }
+
+    /**
+     * Answers 404 for a missing group and 403 for an existing one the
+     * caller does not belong to.
+     */
+    private void requireMember(long groupId, long memberId) {
+        if (!memberships.exists(groupId, memberId)) {
+            groups.get(groupId);
+            throw new ForbiddenException("member " + memberId + " does not belong to study group " + groupId);
+        }
+    }
+
+    private static String baseName(String fileName) {
+        int slash = Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\'));
+        String name = fileName.substring(slash + 1).strip();
+        if (name.isEmpty() || name.length() > MAX_FILE_NAME_LENGTH
+                || name.chars().anyMatch(Character::isISOControl)) {
+            throw new BadRequestException(
+                    "file name must be 1-" + MAX_FILE_NAME_LENGTH + " printable characters");
+        }
+        return name;
+    }
+
+    /**
+     * The declared content type in normalized form. It is served back on
+     * download, so it must be one concrete media type that fits its column.
+     */
+    private static String mediaType(String contentType) {
+        if (contentType.length() > MAX_CONTENT_TYPE_LENGTH) {
+            throw new BadRequestException("content type must be at most " + MAX_CONTENT_TYPE_LENGTH + " characters");
+        }
+        MediaType type;
+        try {
+            type = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            throw new BadRequestException("content type is not a valid media type: " + e.getMessage());
+        }
+        String normalized = type.toString();
+        if (type.isWildcardType() || type.isWildcardSubtype() || normalized.length() > MAX_CONTENT_TYPE_LENGTH) {
+            throw new BadRequestException("content type must be a single media type of at most "
+                    + MAX_CONTENT_TYPE_LENGTH + " characters");
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,24 @@
+package com.studit.api.attendance;
+
+import com.studit.core.attendance.AttendanceJournal;
+import com.studit.core.attendance.AttendanceSink;
+import com.studit.core.attendance.AttendanceTracker;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(AttendanceProperties.class)
+public class AttendanceConfig {
+
+    @Bean(destroyMethod = "close")
+    public AttendanceJournal attendanceJournal(AttendanceProperties properties) {
+        return new AttendanceJournal(properties.journalDirectory());
+    }
+
+    @Bean
+    public AttendanceTracker attendanceTracker(AttendanceJournal journal, AttendanceSink sink,
+                                               AttendanceProperties properties) {
+        return new AttendanceTracker(journal, sink, properties.maxGap(), properties.idleTimeout());
+    }
+}
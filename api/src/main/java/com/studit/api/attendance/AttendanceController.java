@@ -0,0 +1,44 @@
+package com.studit.api.attendance;
+
+import com.studit.api.support.RequestHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class AttendanceController {
+
+    private final AttendanceService service;
+
+    public AttendanceController(AttendanceService service) {
+        this.service = service;
+    }
+
+    @PostMapping("/api/study-groups/{groupId}/attendance")
+    public ResponseEntity<StudySessionResponse> checkIn(@PathVariable long groupId,
+                                                        @RequestHeader(RequestHeaders.MEMBER_ID) long memberId) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(StudySessionResponse.from(service.checkIn(groupId, memberId)));
+    }
+
+    @PostMapping("/api/attendance/heartbeat")
+    public ResponseEntity<Void> heartbeat(@RequestHeader(RequestHeaders.MEMBER_ID) long memberId) {
+        service.heartbeat(memberId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/api/attendance")
+    public StudySessionResponse current(@RequestHeader(RequestHeaders.MEMBER_ID) long memberId) {
+        return StudySessionResponse.from(service.current(memberId));
+    }
+
+    @DeleteMapping("/api/attendance")
+    public StudySessionResponse checkOut(@RequestHeader(RequestHeaders.MEMBER_ID) long memberId) {
+        return StudySessionResponse.from(service.checkOut(memberId));
+    }
+}
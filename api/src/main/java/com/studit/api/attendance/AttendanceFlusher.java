@@ -0,0 +1,77 @@
+package com.studit.api.attendance;
+
+import com.studit.core.attendance.AttendanceTracker;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drives {@link AttendanceTracker}: replays the journal before the web
+ * server starts, flushes on a fixed delay, and flushes once more on
+ * shutdown while the database is still available.
+ */
+@Component
+public class AttendanceFlusher implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceFlusher.class);
+
+    private final AttendanceTracker tracker;
+    private final Clock clock;
+    private final Timer flushTimer;
+    private final Timer failedFlushTimer;
+    private final DistributionSummary flushedRows;
+
+    public AttendanceFlusher(AttendanceTracker tracker, Clock clock, MeterRegistry registry) {
+        this.tracker = tracker;
+        this.clock = clock;
+        this.flushTimer = flushTimer(registry, "success");
+        this.failedFlushTimer = flushTimer(registry, "error");
+        this.flushedRows = DistributionSummary.builder("studit.attendance.flush.rows")
+                .description("Sessions written per attendance flush")
+                .register(registry);
+    }
+
+    private static Timer flushTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("studit.attendance.flush")
+                .description("Attendance flush time, including the batched database write")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            int recovered = tracker.recover(clock.millis());
+            if (recovered > 0) {
+                log.info("Recovered {} study sessions from the attendance journal", recovered);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Attendance journal replay failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${studit.attendance.flush-interval:5s}")
+    public void flush() {
+        long started = System.nanoTime();
+        try {
+            flushedRows.record(tracker.flush(clock.millis()));
+            flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            failedFlushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            log.warn("Attendance flush failed, will retry on the next run", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,20 @@
+package com.studit.api.attendance;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param journalDirectory where the crash-recovery journal lives; must be on local disk
+ * @param flushInterval    how often changed sessions are written to the database
+ * @param maxGap           longest heartbeat gap still counted as study time
+ * @param idleTimeout      silence after which an open session is closed
+ */
+@ConfigurationProperties("studit.attendance")
+public record AttendanceProperties(
+        @DefaultValue("data/attendance") Path journalDirectory,
+        @DefaultValue("5s") Duration flushInterval,
+        @DefaultValue("90s") Duration maxGap,
+        @DefaultValue("5m") Duration idleTimeout) {
+}
@@ -0,0 +1,51 @@
+package com.studit.api.attendance;
+
+import com.studit.api.group.GroupMemberRepository;
+import com.studit.api.support.ConflictException;
+import com.studit.api.support.NotFoundException;
+import com.studit.core.attendance.AttendanceTracker;
+import com.studit.core.attendance.SessionSnapshot;
+import java.time.Clock;
+import org.springframework.stereotype.Service;
+
+/**
+ * Study timers. Only check-in reads the database (to verify membership);
+ * heartbeats and check-outs are served from memory and persisted by
+ * {@link AttendanceFlusher}.
+ */
+@Service
+public class AttendanceService {
+
+    private final AttendanceTracker tracker;
+    private final GroupMemberRepository memberships;
+    private final Clock clock;
+
+    public AttendanceService(AttendanceTracker tracker, GroupMemberRepository memberships, Clock clock) {
+        this.tracker = tracker;
+        this.memberships = memberships;
+        this.clock = clock;
+    }
+
+    public SessionSnapshot checkIn(long groupId, long memberId) {
+        if (!memberships.exists(groupId, memberId)) {
+            throw new ConflictException("member " + memberId + " does not belong to study group " + groupId);
+        }
+        return tracker.checkIn(memberId, groupId, clock.millis());
+    }
+
+    public void heartbeat(long memberId) {
+        if (!tracker.heartbeat(memberId, clock.millis())) {
+            throw new NotFoundException("open study session of member", memberId);
+        }
+    }
+
+    public SessionSnapshot checkOut(long memberId) {
+        return tracker.checkOut(memberId, clock.millis())
+                .orElseThrow(() -> new NotFoundException("open study session of member", memberId));
+    }
+
+    public SessionSnapshot current(long memberId) {
+        return tracker.current(memberId)
+                .orElseThrow(() -> new NotFoundException("open study session of member", memberId));
+    }
+}
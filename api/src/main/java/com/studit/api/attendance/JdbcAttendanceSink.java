@@ -0,0 +1,77 @@
+package com.studit.api.attendance;
+
+import com.studit.core.attendance.AttendanceSink;
+import com.studit.core.attendance.SessionSnapshot;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Upserts a flush batch with one JDBC batch of MERGE statements in a single
+ * transaction.
+ */
+@Component
+public class JdbcAttendanceSink implements AttendanceSink {
+
+    private static final String UPSERT = """
+            MERGE INTO study_session t
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS TIMESTAMP WITH TIME ZONE))) s (member_id, started_at)
+            ON t.member_id = s.member_id AND t.started_at = s.started_at
+            WHEN MATCHED THEN UPDATE SET
+                last_seen_at = ?, studied_millis = ?, ended_at = ?
+            WHEN NOT MATCHED THEN INSERT (member_id, started_at, group_id, last_seen_at, studied_millis, ended_at)
+                VALUES (s.member_id, s.started_at, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    public JdbcAttendanceSink(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    @Transactional
+    public void write(List<SessionSnapshot> sessions) {
+        jdbc.batchUpdate(UPSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SessionSnapshot s = sessions.get(i);
+                OffsetDateTime lastSeen = timestamp(s.lastSeenAt());
+                ps.setLong(1, s.memberId());
+                ps.setObject(2, timestamp(s.startedAt()));
+                ps.setObject(3, lastSeen);
+                ps.setLong(4, s.studiedMillis());
+                setEnded(ps, 5, s);
+                ps.setLong(6, s.groupId());
+                ps.setObject(7, lastSeen);
+                ps.setLong(8, s.studiedMillis());
+                setEnded(ps, 9, s);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return sessions.size();
+            }
+        });
+    }
+
+    private static void setEnded(PreparedStatement ps, int index, SessionSnapshot session) throws SQLException {
+        if (session.isOpen()) {
+            ps.setNull(index, Types.TIMESTAMP_WITH_TIMEZONE);
+        } else {
+            ps.setObject(index, timestamp(session.endedAt()));
+        }
+    }
+
+    private static OffsetDateTime timestamp(long epochMillis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
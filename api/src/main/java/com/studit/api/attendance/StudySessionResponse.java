@@ -0,0 +1,18 @@
+package com.studit.api.attendance;
+
+import com.studit.core.attendance.SessionSnapshot;
+import java.time.Instant;
+
+public record StudySessionResponse(
+        long groupId,
+        Instant startedAt,
+        Instant lastSeenAt,
+        long studiedSeconds,
+        Instant endedAt) {
+
+    static StudySessionResponse from(SessionSnapshot session) {
+        return new StudySessionResponse(session.groupId(), Instant.ofEpochMilli(session.startedAt()),
+                Instant.ofEpochMilli(session.lastSeenAt()), session.studiedMillis() / 1000,
+                session.isOpen() ? null : Instant.ofEpochMilli(session.endedAt()));
+    }
+}
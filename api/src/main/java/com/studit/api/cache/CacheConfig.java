@@ -0,0 +1,57 @@
+package com.studit.api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studit.core.cache.InMemorySharedCache;
+import com.studit.core.cache.SharedCache;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Caching runs ahead of the transaction advice, so a hit returns without
+ * opening a transaction or borrowing a pooled connection. A
+ * {@link SharedCache} bean, if one is declared, becomes the second tier of
+ * every cache; otherwise {@code studit.cache.shared} picks it.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    private static final List<String> NAMES =
+            List.of(CacheNames.STUDY_GROUPS, CacheNames.MEMBERS, CacheNames.GROUP_ROSTERS);
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties, ObjectProvider<SharedCache> sharedCache) {
+        SharedCache shared = sharedCache.getIfAvailable(() -> switch (properties.shared()) {
+            case NONE -> null;
+            case IN_MEMORY -> new InMemorySharedCache();
+        });
+        SimpleCacheManager manager = new SimpleCacheManager();
+        manager.setCaches(NAMES.stream()
+                .map(name -> {
+                    CacheProperties.Spec spec = properties.caches().get(name);
+                    if (spec == null) {
+                        throw new IllegalStateException("studit.cache.caches." + name + " is not configured");
+                    }
+                    return new TwoTierCache(name, Caffeine.newBuilder()
+                            .maximumSize(spec.maximumSize())
+                            .expireAfterWrite(spec.ttl())
+                            .recordStats()
+                            .build(), shared, spec.ttl());
+                })
+                .toList());
+        return manager;
+    }
+
+    @Bean
+    static TwoTierCacheMeterBinderProvider twoTierCacheMeterBinderProvider() {
+        return new TwoTierCacheMeterBinderProvider();
+    }
+}
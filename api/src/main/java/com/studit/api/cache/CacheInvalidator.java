@@ -0,0 +1,44 @@
+package com.studit.api.cache;
+
+import com.studit.api.group.GroupMembershipChangedEvent;
+import com.studit.api.group.StudyGroupChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts exactly the entries a committed write made stale. Eviction runs
+ * after commit, so every load that starts afterwards sees the new rows. A
+ * load that read the old rows before the commit but stored them after the
+ * eviction stays stale for at most the cache's time to live.
+ */
+@Component
+public class CacheInvalidator {
+
+    private final Cache studyGroups;
+    private final Cache groupRosters;
+
+    public CacheInvalidator(CacheManager cacheManager) {
+        this.studyGroups = cacheManager.getCache(CacheNames.STUDY_GROUPS);
+        this.groupRosters = cacheManager.getCache(CacheNames.GROUP_ROSTERS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StudyGroupChangedEvent event) {
+        switch (event.change()) {
+            case CREATED -> {
+            }
+            case UPDATED -> studyGroups.evict(event.groupId());
+            case DELETED -> {
+                studyGroups.evict(event.groupId());
+                groupRosters.evict(event.groupId());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(GroupMembershipChangedEvent event) {
+        groupRosters.evict(event.groupId());
+    }
+}
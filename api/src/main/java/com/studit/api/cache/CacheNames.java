@@ -0,0 +1,16 @@
+package com.studit.api.cache;
+
+public final class CacheNames {
+
+    /** {@code StudyGroup} by group id. */
+    public static final String STUDY_GROUPS = "study-groups";
+
+    /** {@code Member} by member id. */
+    public static final String MEMBERS = "members";
+
+    /** First roster page at the maximum page size, by group id. */
+    public static final String GROUP_ROSTERS = "group-rosters";
+
+    private CacheNames() {
+    }
+}
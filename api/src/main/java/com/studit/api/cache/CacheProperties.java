@@ -0,0 +1,32 @@
+package com.studit.api.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param shared second tier behind the local caches
+ * @param caches size bound and time to live per cache name; every name in
+ *               {@link CacheNames} needs an entry
+ */
+@ConfigurationProperties("studit.cache")
+public record CacheProperties(
+        @DefaultValue("NONE") SharedTier shared,
+        Map<String, Spec> caches) {
+
+    public enum SharedTier {
+        /** Local caches only. */
+        NONE,
+        /** In-process stand-in for a shared cache cluster. */
+        IN_MEMORY
+    }
+
+    /**
+     * @param maximumSize entries kept locally before the least useful are evicted
+     * @param ttl         time to live after a write, in both tiers; bounds how
+     *                    long a read that raced an invalidation can stay stale
+     */
+    public record Spec(long maximumSize, Duration ttl) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.studit.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.studit.core.cache.SharedCache;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * A Caffeine cache in front of an optional {@link SharedCache}.
+ * <p>
+ * Reads try the local tier, then the shared one, then the loader; a value
+ * found further down is copied into the tiers above it. Writes and evictions
+ * go to both tiers, and evictions made by other instances arrive through
+ * the shared tier's invalidation channel and drop the local copy. Loads
+ * through {@link #get(Object, Callable)}, which is what
+ * {@code @Cacheable(sync = true)} uses, are per key, so concurrent misses on
+ * one key reach the database once per instance; a plain {@code @Cacheable}
+ * looks up and puts separately and gets no such guarantee.
+ * <p>
+ * The loader runs on the first missing caller's thread outside any map
+ * lock; later callers for the key wait on its future, which parks rather
+ * than pins a virtual thread and never holds up other keys. An eviction
+ * detaches a running load, so callers that arrive after it start a fresh
+ * one.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<Object, Object> local;
+    private final SharedCache shared;
+    private final Duration sharedTtl;
+    private final Map<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder sharedMisses = new LongAdder();
+
+    /**
+     * @param shared second tier, or {@code null} for a local-only cache
+     */
+    public TwoTierCache(String name, Cache<Object, Object> local, SharedCache shared, Duration sharedTtl) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.shared = shared;
+        this.sharedTtl = sharedTtl;
+        if (shared != null) {
+            shared.subscribe((cacheName, key) -> {
+                if (!cacheName.equals(name)) {
+                    return;
+                }
+                if (key == null) {
+                    loads.clear();
+                    local.invalidateAll();
+                } else {
+                    loads.remove(key);
+                    local.invalidate(key);
+                }
+            });
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Cache<Object, Object> getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value == null && shared != null) {
+            value = sharedGet(key);
+            if (value != null) {
+                local.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return (T) value;
+        }
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = loads.putIfAbsent(key, load);
+        if (running != null) {
+            return (T) await(key, running, valueLoader);
+        }
+        try {
+            value = load(key, valueLoader);
+        } catch (RuntimeException | Error e) {
+            loads.remove(key, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+        // Only a load no eviction has detached may fill the local tier.
+        if (loads.remove(key, load) && value != null) {
+            local.put(key, value);
+        }
+        load.complete(value);
+        return (T) value;
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        // A load that finished between the miss above and claiming the key.
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = shared == null ? null : sharedGet(key);
+        if (value != null) {
+            return value;
+        }
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null && shared != null) {
+            shared.put(name, key, value, sharedTtl);
+        }
+        return value;
+    }
+
+    private Object await(Object key, CompletableFuture<Object> running, Callable<?> valueLoader) {
+        try {
+            return running.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw (Error) e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        local.put(key, value);
+        if (shared != null) {
+            shared.put(name, key, value, sharedTtl);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        loads.remove(key);
+        local.invalidate(key);
+        if (shared != null) {
+            shared.evict(name, key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        loads.clear();
+        local.invalidateAll();
+        if (shared != null) {
+            shared.clear(name);
+        }
+    }
+
+    public boolean hasSharedTier() {
+        return shared != null;
+    }
+
+    /** Local misses answered by the shared tier. */
+    public long sharedHits() {
+        return sharedHits.sum();
+    }
+
+    /** Local misses the shared tier could not answer either. */
+    public long sharedMisses() {
+        return sharedMisses.sum();
+    }
+
+    private Object sharedGet(Object key) {
+        Object value = shared.get(name, key);
+        (value == null ? sharedMisses : sharedHits).increment();
+        return value;
+    }
+}
@@ -0,0 +1,35 @@
+package com.studit.api.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * Publishes the standard {@code cache.*} meters of the local tier (gets by
+ * result, puts, evictions, size) and {@code cache.shared.gets} by result for
+ * the shared tier.
+ */
+class TwoTierCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoTierCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(TwoTierCache cache, Iterable<Tag> tags) {
+        return registry -> {
+            new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags).bindTo(registry);
+            if (!cache.hasSharedTier()) {
+                return;
+            }
+            FunctionCounter.builder("cache.shared.gets", cache, TwoTierCache::sharedHits)
+                    .tags(tags)
+                    .tags("cache", cache.getName(), "result", "hit")
+                    .description("Local cache misses answered by the shared tier")
+                    .register(registry);
+            FunctionCounter.builder("cache.shared.gets", cache, TwoTierCache::sharedMisses)
+                    .tags(tags)
+                    .tags("cache", cache.getName(), "result", "miss")
+                    .description("Local cache misses the shared tier could not answer")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.studit.api.chat;
+
+import com.studit.core.chat.ChatHub;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+@Configuration(proxyBeanMethods = false)
+@EnableWebSocket
+@EnableConfigurationProperties(ChatProperties.class)
+public class ChatConfig implements WebSocketConfigurer {
+
+    private final ChatProperties properties;
+    private final ChatWebSocketHandler handler;
+    private final ChatHandshakeInterceptor handshakeInterceptor;
+
+    public ChatConfig(ChatProperties properties, ChatWebSocketHandler handler,
+                      ChatHandshakeInterceptor handshakeInterceptor) {
+        this.properties = properties;
+        this.handler = handler;
+        this.handshakeInterceptor = handshakeInterceptor;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(handler, "/ws/chat/*")
+                .addInterceptors(handshakeInterceptor)
+                .setAllowedOriginPatterns(properties.allowedOrigins().toArray(String[]::new));
+    }
+
+    @Bean
+    public ServletServerContainerFactoryBean webSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        // Room for the longest message plus its JSON envelope in UTF-8.
+        container.setMaxTextMessageBufferSize(properties.maxMessageLength() * 4 + 1024);
+        return container;
+    }
+
+    /**
+     * Drain tasks block on slow sockets, one per lagging connection, so they
+     * get a virtual thread each regardless of the request execution mode.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public static ExecutorService chatDrainExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chat-drain-", 0).factory());
+    }
+
+    @Bean
+    public static ChatHub<TextMessage> chatHub(ExecutorService chatDrainExecutor, ChatProperties properties) {
+        return new ChatHub<>(chatDrainExecutor, properties.outboundCapacity(), properties.overflow());
+    }
+}
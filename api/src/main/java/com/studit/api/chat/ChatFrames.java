@@ -0,0 +1,75 @@
+package com.studit.api.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * Wire format of the chat socket. Every outbound frame is encoded once and
+ * the resulting {@link TextMessage} is shared by all recipients.
+ */
+@Component
+class ChatFrames {
+
+    private final ObjectMapper objectMapper;
+
+    ChatFrames(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    Inbound decode(String payload) {
+        try {
+            return objectMapper.readValue(payload, Inbound.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("malformed chat frame", e);
+        }
+    }
+
+    TextMessage message(long groupId, long memberId, String text, String ref, Instant sentAt) {
+        return encode(new Message("message", groupId, memberId, text, ref, sentAt));
+    }
+
+    TextMessage typing(long groupId, long memberId) {
+        return encode(new Presence("typing", groupId, memberId));
+    }
+
+    TextMessage joined(long groupId, long memberId) {
+        return encode(new Presence("joined", groupId, memberId));
+    }
+
+    TextMessage left(long groupId, long memberId) {
+        return encode(new Presence("left", groupId, memberId));
+    }
+
+    TextMessage overflow(long dropped) {
+        return encode(new Overflow("overflow", dropped));
+    }
+
+    private TextMessage encode(Object frame) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(frame));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A client frame: {@code {"type":"message","text":"...","ref":"..."}} or
+     * {@code {"type":"typing"}}. {@code ref} is an opaque client token echoed
+     * back on the broadcast so senders can match their own messages.
+     */
+    record Inbound(String type, String text, String ref) {
+    }
+
+    record Message(String type, long groupId, long memberId, String text, String ref, Instant sentAt) {
+    }
+
+    record Presence(String type, long groupId, long memberId) {
+    }
+
+    record Overflow(String type, long dropped) {
+    }
+}
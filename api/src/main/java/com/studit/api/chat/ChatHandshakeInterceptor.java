@@ -0,0 +1,68 @@
+package com.studit.api.chat;
+
+import com.studit.api.group.GroupMemberRepository;
+import com.studit.api.support.RequestHeaders;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Admits a socket to {@code /ws/chat/{groupId}} only for members of that
+ * group. Browsers cannot set headers on a WebSocket handshake, so the member
+ * id may also come from the {@code memberId} query parameter.
+ */
+@Component
+class ChatHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String GROUP_ID = "studit.chat.groupId";
+    static final String MEMBER_ID = "studit.chat.memberId";
+
+    private final GroupMemberRepository members;
+
+    ChatHandshakeInterceptor(GroupMemberRepository members) {
+        this.members = members;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        UriComponents uri = UriComponentsBuilder.fromUri(request.getURI()).build();
+        String header = request.getHeaders().getFirst(RequestHeaders.MEMBER_ID);
+        Long groupId = parseId(uri.getPathSegments().getLast());
+        Long memberId = parseId(header != null ? header : uri.getQueryParams().getFirst("memberId"));
+        if (groupId == null || memberId == null) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+        if (!members.exists(groupId, memberId)) {
+            response.setStatusCode(HttpStatus.FORBIDDEN);
+            return false;
+        }
+        attributes.put(GROUP_ID, groupId);
+        attributes.put(MEMBER_ID, memberId);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private static Long parseId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            long id = Long.parseLong(value);
+            return id > 0 ? id : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.studit.api.chat;
+
+import com.studit.core.chat.OverflowPolicy;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param outboundCapacity frames queued per connection before the overflow policy applies
+ * @param overflow         what to discard when a client falls that far behind
+ * @param maxMessageLength longest chat message accepted from a client, in characters
+ * @param allowedOrigins   origins allowed to open the chat socket
+ */
+@ConfigurationProperties("studit.chat")
+public record ChatProperties(
+        @DefaultValue("256") int outboundCapacity,
+        @DefaultValue("DROP_OLDEST") OverflowPolicy overflow,
+        @DefaultValue("2000") int maxMessageLength,
+        @DefaultValue("*") List<String> allowedOrigins) {
+}
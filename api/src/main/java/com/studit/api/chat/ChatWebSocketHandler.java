@@ -0,0 +1,170 @@
+package com.studit.api.chat;
+
+import com.studit.api.group.GroupMemberRepository;
+import com.studit.api.group.GroupMembershipChangedEvent;
+import com.studit.api.group.StudyGroupChangedEvent;
+import com.studit.core.chat.ChatConnection;
+import com.studit.core.chat.ChatHub;
+import java.io.IOException;
+import java.time.Clock;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * Relays client frames into the group's room. Inbound handling only encodes
+ * and enqueues; the socket writes happen on each recipient's drain task, so a
+ * slow reader never stalls the sender's thread or anybody else's delivery.
+ * <p>
+ * Typing and presence frames carry a coalesce key per member, so a lagging
+ * client keeps at most one pending frame of each kind per member.
+ * <p>
+ * A member who leaves the group, or whose group is deleted, is disconnected
+ * once the change commits. The handshake checked membership before the
+ * connection joined its room, so membership is checked again after joining:
+ * a leave that commits in between is caught either by that check or by the
+ * event.
+ */
+@Component
+class ChatWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String CONNECTION = "studit.chat.connection";
+
+    private static final CloseStatus NOT_A_MEMBER = CloseStatus.POLICY_VIOLATION.withReason("not a group member");
+    private static final CloseStatus GROUP_DELETED = CloseStatus.POLICY_VIOLATION.withReason("group was deleted");
+
+    private final ChatHub<TextMessage> hub;
+    private final GroupMemberRepository members;
+    private final ChatFrames frames;
+    private final ChatProperties properties;
+    private final Clock clock;
+
+    ChatWebSocketHandler(ChatHub<TextMessage> hub, GroupMemberRepository members, ChatFrames frames,
+                         ChatProperties properties, Clock clock) {
+        this.hub = hub;
+        this.members = members;
+        this.frames = frames;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        long groupId = groupId(session);
+        long memberId = memberId(session);
+        WebSocketChatConnection connection = new WebSocketChatConnection(session, memberId, frames);
+        session.getAttributes().put(CONNECTION, connection);
+        hub.join(groupId, connection);
+        if (!members.exists(groupId, memberId)) {
+            disconnect(groupId, connection, NOT_A_MEMBER);
+            return;
+        }
+        hub.broadcast(groupId, frames.joined(groupId, memberId), presenceKey(memberId));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        long groupId = groupId(session);
+        long memberId = memberId(session);
+        ChatFrames.Inbound inbound;
+        try {
+            inbound = frames.decode(message.getPayload());
+        } catch (IllegalArgumentException e) {
+            reject(session, "malformed chat frame");
+            return;
+        }
+        switch (inbound.type() == null ? "" : inbound.type()) {
+            case "message" -> {
+                String text = inbound.text();
+                if (text == null || text.isBlank() || text.length() > properties.maxMessageLength()) {
+                    reject(session, "text must be 1-" + properties.maxMessageLength() + " characters");
+                    return;
+                }
+                hub.broadcast(groupId, frames.message(groupId, memberId, text, inbound.ref(), clock.instant()), 0);
+            }
+            case "typing" -> hub.broadcast(groupId, frames.typing(groupId, memberId), memberId);
+            default -> reject(session, "unknown frame type");
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Object connection = session.getAttributes().get(CONNECTION);
+        if (connection instanceof WebSocketChatConnection chatConnection) {
+            long groupId = groupId(session);
+            hub.leave(groupId, chatConnection);
+            hub.broadcast(groupId, frames.left(groupId, memberId(session)), presenceKey(memberId(session)));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(GroupMembershipChangedEvent event) {
+        if (event.change() == GroupMembershipChangedEvent.Change.LEFT) {
+            for (ChatConnection<TextMessage> connection : hub.connections(event.groupId())) {
+                if (connection instanceof WebSocketChatConnection chatConnection
+                        && chatConnection.memberId() == event.memberId()) {
+                    disconnect(event.groupId(), chatConnection, NOT_A_MEMBER);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StudyGroupChangedEvent event) {
+        if (event.change() == StudyGroupChangedEvent.Change.DELETED) {
+            for (ChatConnection<TextMessage> connection : hub.connections(event.groupId())) {
+                if (connection instanceof WebSocketChatConnection chatConnection) {
+                    disconnect(event.groupId(), chatConnection, GROUP_DELETED);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws IOException {
+        close(session, CloseStatus.SERVER_ERROR);
+    }
+
+    /**
+     * A bad frame closes the socket rather than queueing an error reply, and
+     * the close reason reaches the client without waiting behind queued
+     * frames.
+     */
+    private void reject(WebSocketSession session, String reason) throws IOException {
+        close(session, CloseStatus.BAD_DATA.withReason(reason));
+    }
+
+    /**
+     * Closes through the hub, so the close is made by the connection's drain
+     * task whenever one is writing to the session. Before the connection has
+     * joined there is no other writer.
+     */
+    private void close(WebSocketSession session, CloseStatus status) throws IOException {
+        Object connection = session.getAttributes().get(CONNECTION);
+        if (connection instanceof WebSocketChatConnection chatConnection) {
+            disconnect(groupId(session), chatConnection, status);
+        } else {
+            session.close(status);
+        }
+    }
+
+    private void disconnect(long groupId, WebSocketChatConnection connection, CloseStatus status) {
+        connection.closeWith(status);
+        hub.leave(groupId, connection);
+    }
+
+    private static long presenceKey(long memberId) {
+        return -memberId;
+    }
+
+    private static long groupId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(ChatHandshakeInterceptor.GROUP_ID);
+    }
+
+    private static long memberId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(ChatHandshakeInterceptor.MEMBER_ID);
+    }
+}
@@ -0,0 +1,60 @@
+package com.studit.api.chat;
+
+import com.studit.core.chat.ChatConnection;
+import java.io.IOException;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * Adapts a Spring {@link WebSocketSession} to the hub. All writes, the close
+ * included, come from the connection's single drain task (or from the
+ * leaving thread when no drain is running), so the session needs no send
+ * decorator.
+ */
+final class WebSocketChatConnection implements ChatConnection<TextMessage> {
+
+    private final WebSocketSession session;
+    private final long memberId;
+    private final ChatFrames frames;
+    private volatile CloseStatus closeStatus = CloseStatus.SESSION_NOT_RELIABLE;
+
+    WebSocketChatConnection(WebSocketSession session, long memberId, ChatFrames frames) {
+        this.session = session;
+        this.memberId = memberId;
+        this.frames = frames;
+    }
+
+    long memberId() {
+        return memberId;
+    }
+
+    @Override
+    public void send(TextMessage frame) throws IOException {
+        session.sendMessage(frame);
+    }
+
+    @Override
+    public void dropped(long count) throws IOException {
+        session.sendMessage(frames.overflow(count));
+    }
+
+    /**
+     * Sets the status {@link #close} sends; call before leaving the room.
+     */
+    void closeWith(CloseStatus status) {
+        this.closeStatus = status;
+    }
+
+    @Override
+    public void close() {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.close(closeStatus);
+        } catch (IOException ignored) {
+            // The socket is already gone; nothing left to release.
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.studit.api.group;
+
+import java.time.Instant;
+
+/**
+ * A member as listed on a group's roster.
+ *
+ * @param membershipId keyset position of this row in the roster
+ */
+public record GroupMember(long membershipId, long memberId, String nickname, Instant joinedAt) {
+}
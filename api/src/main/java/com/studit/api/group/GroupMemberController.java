@@ -0,0 +1,51 @@
+package com.studit.api.group;
+
+import com.studit.api.support.CursorPageResponse;
+import com.studit.api.support.RequestHeaders;
+import com.studit.core.paging.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class GroupMemberController {
+
+    private final GroupMembershipService service;
+
+    public GroupMemberController(GroupMembershipService service) {
+        this.service = service;
+    }
+
+    @PostMapping("/api/study-groups/{groupId}/members")
+    public ResponseEntity<Void> join(@PathVariable long groupId,
+                                     @RequestHeader(RequestHeaders.MEMBER_ID) long memberId) {
+        service.join(groupId, memberId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/api/study-groups/{groupId}/members/me")
+    public ResponseEntity<Void> leave(@PathVariable long groupId,
+                                      @RequestHeader(RequestHeaders.MEMBER_ID) long memberId) {
+        service.leave(groupId, memberId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/api/study-groups/{groupId}/members")
+    public CursorPageResponse<GroupMember> members(@PathVariable long groupId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer size) {
+        return CursorPageResponse.from(service.members(groupId, PageRequest.of(cursor, size)));
+    }
+
+    @GetMapping("/api/members/{memberId}/study-groups")
+    public CursorPageResponse<JoinedGroup> groupsOf(@PathVariable long memberId,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer size) {
+        return CursorPageResponse.from(service.groupsOf(memberId, PageRequest.of(cursor, size)));
+    }
+}
@@ -0,0 +1,145 @@
+package com.studit.api.group;
+
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.PageRequest;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.OptionalInt;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Group rosters. Both list queries seek on the membership id through a
+ * {@code (owner, id)} index, so every page costs the same no matter how far
+ * into the list it is. The ORDER BY repeats the leading index column so the
+ * planner reads the index backwards instead of sorting the whole roster.
+ */
+@Repository
+public class GroupMemberRepository {
+
+    private final JdbcClient jdbc;
+
+    public GroupMemberRepository(JdbcClient jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Locks the group row for the rest of the transaction and returns its
+     * capacity, so that concurrent joins cannot overfill it.
+     */
+    public OptionalInt lockCapacity(long groupId) {
+        return jdbc.sql("SELECT max_members FROM study_group WHERE id = ? FOR UPDATE")
+                .param(groupId)
+                .query(Integer.class)
+                .optional()
+                .map(OptionalInt::of)
+                .orElse(OptionalInt.empty());
+    }
+
+    public int countByGroup(long groupId) {
+        return jdbc.sql("SELECT COUNT(*) FROM study_group_member WHERE group_id = ?")
+                .param(groupId)
+                .query(Integer.class)
+                .single();
+    }
+
+    public boolean exists(long groupId, long memberId) {
+        return jdbc.sql("SELECT COUNT(*) FROM study_group_member WHERE group_id = ? AND member_id = ?")
+                .params(groupId, memberId)
+                .query(Integer.class)
+                .single() > 0;
+    }
+
+    public void insert(long groupId, long memberId, Instant joinedAt) {
+        jdbc.sql("INSERT INTO study_group_member (group_id, member_id, joined_at) VALUES (?, ?, ?)")
+                .params(groupId, memberId, joinedAt)
+                .update();
+    }
+
+    public boolean delete(long groupId, long memberId) {
+        return jdbc.sql("DELETE FROM study_group_member WHERE group_id = ? AND member_id = ?")
+                .params(groupId, memberId)
+                .update() > 0;
+    }
+
+    public List<Long> memberIds(long groupId) {
+        return jdbc.sql("SELECT member_id FROM study_group_member WHERE group_id = ?")
+                .param(groupId)
+                .query(Long.class)
+                .list();
+    }
+
+    /**
+     * Streams every (group, member) pair of groups that meet on {@code day}
+     * with a start time in {@code [from, until)}.
+     */
+    public void forEachMemberOfSessionsStarting(DayOfWeek day, LocalTime from, LocalTime until,
+                                                SessionMemberVisitor visitor) {
+        jdbc.sql("""
+                        SELECT gm.group_id, gm.member_id
+                        FROM study_group g
+                        JOIN study_group_member gm ON gm.group_id = g.id
+                        WHERE MOD(g.meeting_days / :dayBit, 2) = 1 -- bit test without vendor bit operators
+                          AND g.start_time >= :from AND g.start_time < :until
+                        """)
+                .param("dayBit", 1 << day.ordinal())
+                .param("from", from)
+                .param("until", until)
+                .query((RowCallbackHandler) rs -> visitor.accept(rs.getLong("group_id"), rs.getLong("member_id")));
+    }
+
+    /**
+     * Newest members of a group first.
+     */
+    public CursorPage<GroupMember> findMembers(long groupId, PageRequest page) {
+        List<GroupMember> rows = jdbc.sql("""
+                        SELECT gm.id, gm.member_id, m.nickname, gm.joined_at
+                        FROM study_group_member gm
+                        JOIN member m ON m.id = gm.member_id
+                        WHERE gm.group_id = :groupId AND gm.id < :after
+                        ORDER BY gm.group_id DESC, gm.id DESC
+                        LIMIT :limit
+                        """)
+                .param("groupId", groupId)
+                .param("after", after(page))
+                .param("limit", page.fetchSize())
+                .query((rs, row) -> new GroupMember(rs.getLong("id"), rs.getLong("member_id"),
+                        rs.getString("nickname"), rs.getObject("joined_at", Instant.class)))
+                .list();
+        return CursorPage.fromOverfetch(rows, page, GroupMember::membershipId);
+    }
+
+    /**
+     * Most recently joined groups of a member first.
+     */
+    public CursorPage<JoinedGroup> findGroups(long memberId, PageRequest page) {
+        List<JoinedGroup> rows = jdbc.sql("""
+                        SELECT gm.id, gm.group_id, g.title, gm.joined_at
+                        FROM study_group_member gm
+                        JOIN study_group g ON g.id = gm.group_id
+                        WHERE gm.member_id = :memberId AND gm.id < :after
+                        ORDER BY gm.member_id DESC, gm.id DESC
+                        LIMIT :limit
+                        """)
+                .param("memberId", memberId)
+                .param("after", after(page))
+                .param("limit", page.fetchSize())
+                .query((rs, row) -> new JoinedGroup(rs.getLong("id"), rs.getLong("group_id"),
+                        rs.getString("title"), rs.getObject("joined_at", Instant.class)))
+                .list();
+        return CursorPage.fromOverfetch(rows, page, JoinedGroup::membershipId);
+    }
+
+    private static long after(PageRequest page) {
+        return page.isFirst() ? Long.MAX_VALUE : page.after().singleKey();
+    }
+
+    @FunctionalInterface
+    public interface SessionMemberVisitor {
+
+        void accept(long groupId, long memberId);
+    }
+}
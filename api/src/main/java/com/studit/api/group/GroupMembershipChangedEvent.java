@@ -0,0 +1,13 @@
+package com.studit.api.group;
+
+/**
+ * Published by {@link GroupMembershipService} after a member joins or leaves
+ * a group.
+ */
+public record GroupMembershipChangedEvent(long groupId, long memberId, Change change) {
+
+    public enum Change {
+        JOINED,
+        LEFT
+    }
+}
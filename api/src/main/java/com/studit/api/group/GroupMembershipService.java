@@ -0,0 +1,79 @@
+package com.studit.api.group;
+
+import com.studit.api.cache.CacheNames;
+import com.studit.api.group.GroupMembershipChangedEvent.Change;
+import com.studit.api.member.MemberRepository;
+import com.studit.api.support.ConflictException;
+import com.studit.api.support.NotFoundException;
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.PageRequest;
+import java.time.Clock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class GroupMembershipService {
+
+    private final GroupMemberRepository repository;
+    private final MemberRepository members;
+    private final ApplicationEventPublisher events;
+    private final Clock clock;
+    private final Cache rosterHeads;
+
+    public GroupMembershipService(GroupMemberRepository repository, MemberRepository members,
+                                  ApplicationEventPublisher events, Clock clock, CacheManager cacheManager) {
+        this.repository = repository;
+        this.members = members;
+        this.events = events;
+        this.clock = clock;
+        this.rosterHeads = cacheManager.getCache(CacheNames.GROUP_ROSTERS);
+    }
+
+    @Transactional
+    public void join(long groupId, long memberId) {
+        int capacity = repository.lockCapacity(groupId)
+                .orElseThrow(() -> new NotFoundException("study group", groupId));
+        if (!members.existsById(memberId)) {
+            throw new NotFoundException("member", memberId);
+        }
+        if (repository.exists(groupId, memberId)) {
+            throw new ConflictException("member " + memberId + " already belongs to study group " + groupId);
+        }
+        if (repository.countByGroup(groupId) >= capacity) {
+            throw new ConflictException("study group " + groupId + " is full");
+        }
+        repository.insert(groupId, memberId, clock.instant());
+        events.publishEvent(new GroupMembershipChangedEvent(groupId, memberId, Change.JOINED));
+    }
+
+    @Transactional
+    public void leave(long groupId, long memberId) {
+        if (!repository.delete(groupId, memberId)) {
+            throw new NotFoundException("membership of member " + memberId + " in study group", groupId);
+        }
+        events.publishEvent(new GroupMembershipChangedEvent(groupId, memberId, Change.LEFT));
+    }
+
+    /**
+     * The first page, which most roster reads are, comes from a cached page
+     * of the maximum size that serves every requested size. Deeper pages go
+     * to the database. Not transactional: each path is a single statement,
+     * and a cache hit must not borrow a connection.
+     */
+    public CursorPage<GroupMember> members(long groupId, PageRequest page) {
+        if (!page.isFirst()) {
+            return repository.findMembers(groupId, page);
+        }
+        CursorPage<GroupMember> head = rosterHeads.get(groupId,
+                () -> repository.findMembers(groupId, PageRequest.first(PageRequest.MAX_SIZE)));
+        return head.head(page.size(), GroupMember::membershipId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<JoinedGroup> groupsOf(long memberId, PageRequest page) {
+        return repository.findGroups(memberId, page);
+    }
+}
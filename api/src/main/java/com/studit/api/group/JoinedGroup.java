@@ -0,0 +1,11 @@
+package com.studit.api.group;
+
+import java.time.Instant;
+
+/**
+ * A group as listed among a member's memberships.
+ *
+ * @param membershipId keyset position of this row in the list
+ */
+public record JoinedGroup(long membershipId, long groupId, String title, Instant joinedAt) {
+}
@@ -0,0 +1,19 @@
+package com.studit.api.group;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record StudyGroup(
+        long id,
+        String title,
+        String description,
+        Set<String> tags,
+        String region,
+        Set<DayOfWeek> days,
+        LocalTime startTime,
+        int maxMembers,
+        Instant createdAt,
+        Instant updatedAt) {
+}
@@ -0,0 +1,17 @@
+package com.studit.api.group;
+
+/**
+ * Published by {@link StudyGroupService} after every write. Listeners that
+ * maintain derived state (search index, caches) react to it instead of being
+ * called from the service directly.
+ *
+ * @param group the group as written, or {@code null} for {@link Change#DELETED}
+ */
+public record StudyGroupChangedEvent(long groupId, Change change, StudyGroup group) {
+
+    public enum Change {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
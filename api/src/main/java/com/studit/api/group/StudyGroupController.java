@@ -0,0 +1,47 @@
+package com.studit.api.group;
+
+import jakarta.validation.Valid;
+import java.net.URI;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/study-groups")
+public class StudyGroupController {
+
+    private final StudyGroupService service;
+
+    public StudyGroupController(StudyGroupService service) {
+        this.service = service;
+    }
+
+    @PostMapping
+    public ResponseEntity<StudyGroupResponse> create(@Valid @RequestBody StudyGroupRequest request) {
+        StudyGroup group = service.create(request);
+        return ResponseEntity.created(URI.create("/api/study-groups/" + group.id()))
+                .body(StudyGroupResponse.from(group));
+    }
+
+    @GetMapping("/{id}")
+    public StudyGroupResponse get(@PathVariable long id) {
+        return StudyGroupResponse.from(service.get(id));
+    }
+
+    @PutMapping("/{id}")
+    public StudyGroupResponse update(@PathVariable long id, @Valid @RequestBody StudyGroupRequest request) {
+        return StudyGroupResponse.from(service.update(id, request));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable long id) {
+        service.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.studit.api.group;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class StudyGroupRepository {
+
+    private static final String SELECT_WITH_TAGS = """
+            SELECT g.id, g.title, g.description, g.region, g.meeting_days, g.start_time,
+                   g.max_members, g.created_at, g.updated_at, t.tag
+            FROM study_group g
+            LEFT JOIN study_group_tag t ON t.group_id = g.id
+            """;
+
+    private final JdbcClient jdbc;
+
+    public StudyGroupRepository(JdbcClient jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public long insert(StudyGroup group) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.sql("""
+                        INSERT INTO study_group (title, description, region, meeting_days, start_time,
+                                                 max_members, created_at, updated_at)
+                        VALUES (:title, :description, :region, :days, :startTime, :maxMembers, :createdAt, :updatedAt)
+                        """)
+                .param("title", group.title())
+                .param("description", group.description())
+                .param("region", group.region())
+                .param("days", toMask(group.days()))
+                .param("startTime", group.startTime())
+                .param("maxMembers", group.maxMembers())
+                .param("createdAt", group.createdAt())
+                .param("updatedAt", group.updatedAt())
+                .update(keys, "id");
+        long id = keys.getKeyAs(Long.class);
+        insertTags(id, group.tags());
+        return id;
+    }
+
+    public boolean update(StudyGroup group) {
+        int updated = jdbc.sql("""
+                        UPDATE study_group
+                        SET title = :title, description = :description, region = :region,
+                            meeting_days = :days, start_time = :startTime, max_members = :maxMembers,
+                            updated_at = :updatedAt
+                        WHERE id = :id
+                        """)
+                .param("id", group.id())
+                .param("title", group.title())
+                .param("description", group.description())
+                .param("region", group.region())
+                .param("days", toMask(group.days()))
+                .param("startTime", group.startTime())
+                .param("maxMembers", group.maxMembers())
+                .param("updatedAt", group.updatedAt())
+                .update();
+        if (updated == 0) {
+            return false;
+        }
+        jdbc.sql("DELETE FROM study_group_tag WHERE group_id = ?").param(group.id()).update();
+        insertTags(group.id(), group.tags());
+        return true;
+    }
+
+    public boolean delete(long id) {
+        return jdbc.sql("DELETE FROM study_group WHERE id = ?").param(id).update() > 0;
+    }
+
+    public Optional<StudyGroup> findById(long id) {
+        List<StudyGroup> groups = new GroupCollector().collect(
+                jdbc.sql(SELECT_WITH_TAGS + "WHERE g.id = ?").param(id));
+        return groups.stream().findFirst();
+    }
+
+    /**
+     * Streams every group in id order without materialising the table, for
+     * rebuilding derived state such as the search index.
+     */
+    public void forEach(Consumer<StudyGroup> consumer) {
+        GroupCollector collector = new GroupCollector(consumer);
+        jdbc.sql(SELECT_WITH_TAGS + "ORDER BY g.id").query(collector::accept);
+        collector.finish();
+    }
+
+    private void insertTags(long groupId, Set<String> tags) {
+        for (String tag : tags) {
+            jdbc.sql("INSERT INTO study_group_tag (group_id, tag) VALUES (?, ?)")
+                    .params(groupId, tag)
+                    .update();
+        }
+    }
+
+    static short toMask(Set<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << day.ordinal();
+        }
+        return (short) mask;
+    }
+
+    static Set<DayOfWeek> fromMask(int mask) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((mask & (1 << day.ordinal())) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Folds the one-row-per-tag join back into groups. Rows must arrive
+     * grouped by id.
+     */
+    private static final class GroupCollector {
+
+        private final Consumer<StudyGroup> sink;
+        private final List<StudyGroup> collected;
+        private ResultSetRow current;
+        private Set<String> tags;
+
+        GroupCollector() {
+            this.collected = new ArrayList<>();
+            this.sink = collected::add;
+        }
+
+        GroupCollector(Consumer<StudyGroup> sink) {
+            this.collected = null;
+            this.sink = sink;
+        }
+
+        List<StudyGroup> collect(JdbcClient.StatementSpec statement) {
+            statement.query(this::accept);
+            finish();
+            return collected;
+        }
+
+        void accept(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (current == null || current.id != id) {
+                finish();
+                current = new ResultSetRow(rs);
+                tags = new LinkedHashSet<>();
+            }
+            String tag = rs.getString("tag");
+            if (tag != null) {
+                tags.add(tag);
+            }
+        }
+
+        void finish() {
+            if (current != null) {
+                sink.accept(current.toGroup(tags));
+                current = null;
+            }
+        }
+    }
+
+    private record ResultSetRow(long id, String title, String description, String region, int days,
+                                LocalTime startTime, int maxMembers, Instant createdAt, Instant updatedAt) {
+
+        ResultSetRow(ResultSet rs) throws SQLException {
+            this(rs.getLong("id"), rs.getString("title"), rs.getString("description"),
+                    rs.getString("region"), rs.getInt("meeting_days"),
+                    rs.getObject("start_time", LocalTime.class), rs.getInt("max_members"),
+                    rs.getObject("created_at", Instant.class), rs.getObject("updated_at", Instant.class));
+        }
+
+        StudyGroup toGroup(Set<String> tags) {
+            return new StudyGroup(id, title, description, tags, region, fromMask(days), startTime,
+                    maxMembers, createdAt, updatedAt);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.studit.api.group;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record StudyGroupRequest(
+        @NotBlank @Size(max = 100) String title,
+        @Size(max = 2000) String description,
+        @Size(max = 10) Set<@NotBlank @Size(max = 30) String> tags,
+        @NotBlank @Size(max = 50) String region,
+        @NotEmpty Set<DayOfWeek> days,
+        @NotNull LocalTime startTime,
+        @Min(2) @Max(100) int maxMembers) {
+
+    public Set<String> tagsOrEmpty() {
+        return tags == null ? Set.of() : tags;
+    }
+}
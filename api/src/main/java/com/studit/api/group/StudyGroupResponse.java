@@ -0,0 +1,25 @@
+package com.studit.api.group;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record StudyGroupResponse(
+        long id,
+        String title,
+        String description,
+        Set<String> tags,
+        String region,
+        Set<DayOfWeek> days,
+        LocalTime startTime,
+        int maxMembers,
+        Instant createdAt,
+        Instant updatedAt) {
+
+    static StudyGroupResponse from(StudyGroup group) {
+        return new StudyGroupResponse(group.id(), group.title(), group.description(), group.tags(),
+                group.region(), group.days(), group.startTime(), group.maxMembers(),
+                group.createdAt(), group.updatedAt());
+    }
+}
@@ -0,0 +1,71 @@
+package com.studit.api.group;
+
+import com.studit.api.cache.CacheNames;
+import com.studit.api.group.StudyGroupChangedEvent.Change;
+import com.studit.api.support.NotFoundException;
+import java.time.Clock;
+import java.time.Instant;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class StudyGroupService {
+
+    private final StudyGroupRepository repository;
+    private final ApplicationEventPublisher events;
+    private final Clock clock;
+
+    public StudyGroupService(StudyGroupRepository repository, ApplicationEventPublisher events, Clock clock) {
+        this.repository = repository;
+        this.events = events;
+        this.clock = clock;
+    }
+
+    @Transactional
+    public StudyGroup create(StudyGroupRequest request) {
+        Instant now = clock.instant();
+        StudyGroup draft = toGroup(0L, request, now, now);
+        long id = repository.insert(draft);
+        StudyGroup created = toGroup(id, request, now, now);
+        events.publishEvent(new StudyGroupChangedEvent(id, Change.CREATED, created));
+        return created;
+    }
+
+    /**
+     * Cached; writes evict through {@link StudyGroupChangedEvent}. The
+     * internal call from {@link #update} bypasses the cache and reads the
+     * row it is about to replace.
+     */
+    @Cacheable(cacheNames = CacheNames.STUDY_GROUPS, sync = true)
+    @Transactional(readOnly = true)
+    public StudyGroup get(long id) {
+        return repository.findById(id).orElseThrow(() -> new NotFoundException("study group", id));
+    }
+
+    @Transactional
+    public StudyGroup update(long id, StudyGroupRequest request) {
+        StudyGroup existing = get(id);
+        StudyGroup updated = toGroup(id, request, existing.createdAt(), clock.instant());
+        if (!repository.update(updated)) {
+            throw new NotFoundException("study group", id);
+        }
+        events.publishEvent(new StudyGroupChangedEvent(id, Change.UPDATED, updated));
+        return updated;
+    }
+
+    @Transactional
+    public void delete(long id) {
+        if (!repository.delete(id)) {
+            throw new NotFoundException("study group", id);
+        }
+        events.publishEvent(new StudyGroupChangedEvent(id, Change.DELETED, null));
+    }
+
+    private static StudyGroup toGroup(long id, StudyGroupRequest request, Instant createdAt, Instant updatedAt) {
+        return new StudyGroup(id, request.title().strip(), request.description(), request.tagsOrEmpty(),
+                request.region().strip(), request.days(), request.startTime(), request.maxMembers(),
+                createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,6 @@
+package com.studit.api.member;
+
+import java.time.Instant;
+
+public record Member(long id, String nickname, String bio, Instant createdAt) {
+}
@@ -0,0 +1,34 @@
+package com.studit.api.member;
+
+import jakarta.validation.Valid;
+import java.net.URI;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/members")
+public class MemberController {
+
+    private final MemberService service;
+
+    public MemberController(MemberService service) {
+        this.service = service;
+    }
+
+    @PostMapping
+    public ResponseEntity<MemberResponse> create(@Valid @RequestBody MemberRequest request) {
+        Member member = service.create(request);
+        return ResponseEntity.created(URI.create("/api/members/" + member.id()))
+                .body(MemberResponse.from(member));
+    }
+
+    @GetMapping("/{id}")
+    public MemberResponse get(@PathVariable long id) {
+        return MemberResponse.from(service.get(id));
+    }
+}
@@ -0,0 +1,47 @@
+package com.studit.api.member;
+
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class MemberRepository {
+
+    private final JdbcClient jdbc;
+
+    public MemberRepository(JdbcClient jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public long insert(Member member) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.sql("INSERT INTO member (nickname, bio, created_at) VALUES (:nickname, :bio, :createdAt)")
+                .param("nickname", member.nickname())
+                .param("bio", member.bio())
+                .param("createdAt", member.createdAt())
+                .update(keys, "id");
+        return keys.getKeyAs(Long.class);
+    }
+
+    public Optional<Member> findById(long id) {
+        return jdbc.sql("SELECT id, nickname, bio, created_at FROM member WHERE id = ?")
+                .param(id)
+                .query((rs, row) -> new Member(rs.getLong("id"), rs.getString("nickname"),
+                        rs.getString("bio"), rs.getObject("created_at", Instant.class)))
+                .optional();
+    }
+
+    public boolean existsById(long id) {
+        return jdbc.sql("SELECT COUNT(*) FROM member WHERE id = ?").param(id).query(Integer.class).single() > 0;
+    }
+
+    public boolean existsByNickname(String nickname) {
+        return jdbc.sql("SELECT COUNT(*) FROM member WHERE nickname = ?")
+                .param(nickname)
+                .query(Integer.class)
+                .single() > 0;
+    }
+}
@@ -0,0 +1,9 @@
+package com.studit.api.member;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record MemberRequest(
+        @NotBlank @Size(max = 30) String nickname,
+        @Size(max = 500) String bio) {
+}
@@ -0,0 +1,10 @@
+package com.studit.api.member;
+
+import java.time.Instant;
+
+public record MemberResponse(long id, String nickname, String bio, Instant createdAt) {
+
+    static MemberResponse from(Member member) {
+        return new MemberResponse(member.id(), member.nickname(), member.bio(), member.createdAt());
+    }
+}
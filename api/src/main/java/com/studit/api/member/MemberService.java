@@ -0,0 +1,42 @@
+package com.studit.api.member;
+
+import com.studit.api.cache.CacheNames;
+import com.studit.api.support.ConflictException;
+import com.studit.api.support.NotFoundException;
+import java.time.Clock;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class MemberService {
+
+    private final MemberRepository repository;
+    private final Clock clock;
+
+    public MemberService(MemberRepository repository, Clock clock) {
+        this.repository = repository;
+        this.clock = clock;
+    }
+
+    @Transactional
+    public Member create(MemberRequest request) {
+        String nickname = request.nickname().strip();
+        if (repository.existsByNickname(nickname)) {
+            throw new ConflictException("nickname " + nickname + " is already taken");
+        }
+        Member draft = new Member(0L, nickname, request.bio(), clock.instant());
+        long id = repository.insert(draft);
+        return new Member(id, draft.nickname(), draft.bio(), draft.createdAt());
+    }
+
+    /**
+     * Cached. Profiles are never modified after creation, so entries only
+     * age out.
+     */
+    @Cacheable(cacheNames = CacheNames.MEMBERS, sync = true)
+    @Transactional(readOnly = true)
+    public Member get(long id) {
+        return repository.findById(id).orElseThrow(() -> new NotFoundException("member", id));
+    }
+}
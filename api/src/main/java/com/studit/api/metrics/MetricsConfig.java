@@ -0,0 +1,154 @@
+package com.studit.api.metrics;
+
+import com.studit.core.attendance.AttendanceTracker;
+import com.studit.core.chat.ChatHub;
+import com.studit.core.notification.NotificationPipeline;
+import com.studit.core.ranking.Rankings;
+import com.studit.core.search.StudyGroupIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * Hot-path meters beyond what Spring Boot binds on its own (HTTP server
+ * requests, Hikari pool, JVM, Tomcat, caches): statement timings and the
+ * depth of every in-memory structure that can back up. Names mirror the
+ * JMH suites so a regression seen there can be looked for in production.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    @Bean
+    static BeanPostProcessor timedDataSourceWrapper(ObjectProvider<MeterRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof TimedDataSource)
+                        ? new TimedDataSource(dataSource, registry.getObject())
+                        : bean;
+            }
+        };
+    }
+
+    /**
+     * {@link ChatHub#stats()} walks every connection, so one scrape shares a
+     * single walk across all chat meters. Meters only hold their source
+     * weakly; the binder bean keeps the shared snapshot alive.
+     */
+    @Bean
+    public MeterBinder chatMetrics(ChatHub<TextMessage> hub) {
+        Supplier<ChatHub.Stats> stats = new RecentStats<>(hub::stats, 1_000);
+        return registry -> {
+            gauge(registry, "studit.chat.connections", "Open chat sockets", stats, ChatHub.Stats::connections);
+            gauge(registry, "studit.chat.rooms", "Chat rooms with at least one socket", stats, ChatHub.Stats::rooms);
+            gauge(registry, "studit.chat.queued.frames", "Frames waiting in per-connection outbound buffers",
+                    stats, ChatHub.Stats::queuedFrames);
+            FunctionCounter.builder("studit.chat.broadcasts", stats, s -> s.get().broadcasts())
+                    .description("Frames broadcast to a room")
+                    .register(registry);
+            frames(registry, stats, "sent", ChatHub.Stats::sentFrames);
+            frames(registry, stats, "dropped", ChatHub.Stats::droppedFrames);
+            frames(registry, stats, "coalesced", ChatHub.Stats::coalescedFrames);
+        };
+    }
+
+    @Bean
+    public MeterBinder attendanceMetrics(AttendanceTracker tracker) {
+        return registry -> Gauge.builder("studit.attendance.open.sessions", tracker, AttendanceTracker::openSessions)
+                .description("Study sessions held in memory between flushes")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder searchMetrics(StudyGroupIndex index) {
+        return registry -> Gauge.builder("studit.search.index.size", index, StudyGroupIndex::size)
+                .description("Study groups in the search index")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder rankingMetrics(Rankings rankings) {
+        return registry -> Gauge.builder("studit.ranking.members", rankings, r -> r.global().size())
+                .description("Members on the global study-time leaderboard")
+                .register(registry);
+    }
+
+    /**
+     * The lag timer is registered with the pipeline itself, which records
+     * into it on every delivery.
+     */
+    @Bean
+    public MeterBinder notificationMetrics(NotificationPipeline pipeline) {
+        Supplier<NotificationPipeline.Stats> stats = new RecentStats<>(pipeline::stats, 1_000);
+        return registry -> {
+            gauge(registry, "studit.notification.pending", "Notifications waiting for delivery", stats,
+                    NotificationPipeline.Stats::pending);
+            FunctionCounter.builder("studit.notification.retries", stats, s -> s.get().retries())
+                    .description("Failed notification batches that were retried")
+                    .register(registry);
+            notifications(registry, stats, "offered", NotificationPipeline.Stats::offered);
+            notifications(registry, stats, "coalesced", NotificationPipeline.Stats::coalesced);
+            notifications(registry, stats, "dropped", NotificationPipeline.Stats::dropped);
+            notifications(registry, stats, "delivered", NotificationPipeline.Stats::delivered);
+            notifications(registry, stats, "dead_lettered", NotificationPipeline.Stats::deadLettered);
+        };
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, String description, Supplier<T> stats,
+                                  ToDoubleFunction<T> value) {
+        Gauge.builder(name, stats, s -> value.applyAsDouble(s.get()))
+                .description(description)
+                .register(registry);
+    }
+
+    private static void frames(MeterRegistry registry, Supplier<ChatHub.Stats> stats, String result,
+                               ToDoubleFunction<ChatHub.Stats> value) {
+        FunctionCounter.builder("studit.chat.frames", stats, s -> value.applyAsDouble(s.get()))
+                .description("Frames per outcome at the outbound buffers")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static void notifications(MeterRegistry registry, Supplier<NotificationPipeline.Stats> stats,
+                                      String result, ToDoubleFunction<NotificationPipeline.Stats> value) {
+        FunctionCounter.builder("studit.notification.events", stats, s -> value.applyAsDouble(s.get()))
+                .description("Notifications per outcome at the notification queue")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /** Caches a snapshot for a short while so one scrape computes it once. */
+    private static final class RecentStats<T> implements Supplier<T> {
+
+        private final Supplier<T> source;
+        private final long maxAgeNanos;
+        private volatile T value;
+        private volatile long takenAt;
+
+        RecentStats(Supplier<T> source, long maxAgeMillis) {
+            this.source = source;
+            this.maxAgeNanos = maxAgeMillis * 1_000_000;
+        }
+
+        @Override
+        public T get() {
+            T current = value;
+            long now = System.nanoTime();
+            if (current == null || now - takenAt > maxAgeNanos) {
+                current = source.get();
+                value = current;
+                takenAt = now;
+            }
+            return current;
+        }
+    }
+}
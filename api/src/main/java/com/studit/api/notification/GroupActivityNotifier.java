@@ -0,0 +1,57 @@
+package com.studit.api.notification;
+
+import com.studit.api.group.GroupMemberRepository;
+import com.studit.api.group.GroupMembershipChangedEvent;
+import com.studit.core.notification.Notification;
+import com.studit.core.notification.NotificationPipeline;
+import com.studit.core.notification.NotificationType;
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Tells the other members of a group that someone joined or left. The
+ * event time is taken on the request thread, so the lag metric covers the
+ * fan-out as well.
+ */
+@Component
+public class GroupActivityNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupActivityNotifier.class);
+
+    private final GroupMemberRepository repository;
+    private final NotificationPipeline pipeline;
+    private final ExecutorService fanOut;
+    private final Clock clock;
+
+    public GroupActivityNotifier(GroupMemberRepository repository, NotificationPipeline pipeline,
+                                 ExecutorService notificationFanOutExecutor, Clock clock) {
+        this.repository = repository;
+        this.pipeline = pipeline;
+        this.fanOut = notificationFanOutExecutor;
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(GroupMembershipChangedEvent event) {
+        NotificationType type = switch (event.change()) {
+            case JOINED -> NotificationType.MEMBER_JOINED;
+            case LEFT -> NotificationType.MEMBER_LEFT;
+        };
+        long at = clock.millis();
+        fanOut.execute(() -> {
+            try {
+                for (long recipient : repository.memberIds(event.groupId())) {
+                    if (recipient != event.memberId()) {
+                        pipeline.offer(Notification.of(recipient, type, event.groupId(), event.memberId(), at));
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not notify study group {} of {}", event.groupId(), event, e);
+            }
+        });
+    }
+}
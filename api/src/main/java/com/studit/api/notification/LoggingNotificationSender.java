@@ -0,0 +1,24 @@
+package com.studit.api.notification;
+
+import com.studit.core.notification.Notification;
+import com.studit.core.notification.NotificationSender;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local stand-in for a real delivery channel: writes each batch to the log.
+ * Any other {@link NotificationSender} bean replaces it.
+ */
+public class LoggingNotificationSender implements NotificationSender {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingNotificationSender.class);
+
+    @Override
+    public void send(List<Notification> batch) {
+        log.info("Delivering {} notifications", batch.size());
+        if (log.isDebugEnabled()) {
+            batch.forEach(notification -> log.debug("{}", notification));
+        }
+    }
+}
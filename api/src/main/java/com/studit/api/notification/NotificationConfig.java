@@ -0,0 +1,59 @@
+package com.studit.api.notification;
+
+import com.studit.core.notification.NotificationPipeline;
+import com.studit.core.notification.NotificationSender;
+import com.studit.core.notification.RetryPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(NotificationProperties.class)
+public class NotificationConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationConfig.class);
+
+    /**
+     * Delivers through the declared {@link NotificationSender} bean, or
+     * {@link LoggingNotificationSender} when there is none. Lag is measured
+     * from the first coalesced event to the sender's return, so it includes
+     * linger, queueing behind other batches and every retry.
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public NotificationPipeline notificationPipeline(ObjectProvider<NotificationSender> senders,
+                                                     NotificationProperties properties, Clock clock,
+                                                     MeterRegistry registry) {
+        NotificationSender sender = senders.getIfAvailable(LoggingNotificationSender::new);
+        Timer lag = Timer.builder("studit.notification.lag")
+                .description("Time from the first event of a notification to its delivery")
+                .register(registry);
+        return NotificationPipeline.builder(sender)
+                .capacity(properties.capacity())
+                .batchSize(properties.batchSize())
+                .linger(properties.linger())
+                .retry(new RetryPolicy(properties.maxAttempts(), properties.initialBackoff(),
+                        properties.maxBackoff()))
+                .clock(clock)
+                .lagRecorder(millis -> lag.record(millis, TimeUnit.MILLISECONDS))
+                .deadLetters((batch, e) -> log.warn("Gave up delivering {} notifications", batch.size(), e))
+                .build();
+    }
+
+    /**
+     * Group-activity fan-out reads the roster, so it runs here rather than
+     * on the request thread that committed the change.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService notificationFanOutExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notification-fan-out-", 0).factory());
+    }
+}
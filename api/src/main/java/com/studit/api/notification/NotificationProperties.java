@@ -0,0 +1,27 @@
+package com.studit.api.notification;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param capacity             notifications queued before new ones are dropped
+ * @param batchSize            most notifications handed to the sender at once
+ * @param linger               longest a notification waits for its batch to fill
+ * @param maxAttempts          deliveries tried per batch before it is given up
+ * @param initialBackoff       ceiling of the wait before the first retry; doubles per attempt
+ * @param maxBackoff           largest wait between two attempts
+ * @param reminderLead         how long before a group's start time its members are reminded
+ * @param reminderScanInterval how often the schedule is scanned for due reminders
+ */
+@ConfigurationProperties("studit.notification")
+public record NotificationProperties(
+        @DefaultValue("100000") int capacity,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("500ms") Duration linger,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("200ms") Duration initialBackoff,
+        @DefaultValue("30s") Duration maxBackoff,
+        @DefaultValue("15m") Duration reminderLead,
+        @DefaultValue("1m") Duration reminderScanInterval) {
+}
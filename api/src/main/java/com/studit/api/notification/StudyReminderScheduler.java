@@ -0,0 +1,74 @@
+package com.studit.api.notification;
+
+import com.studit.api.group.GroupMemberRepository;
+import com.studit.core.notification.Notification;
+import com.studit.core.notification.NotificationPipeline;
+import com.studit.core.notification.NotificationType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reminds members shortly before their group meets. Each scan covers the
+ * start times that became due since the previous scan, so a reminder is
+ * queued once per session no matter how often the scan runs; the first scan
+ * after startup covers everything starting within the lead time.
+ * <p>
+ * A scan is split into single-day slices, and progress is kept after each
+ * slice. A failed scan therefore resumes at the slice that failed, and
+ * reminders that earlier slices already queued are not queued again.
+ * <p>
+ * Start times are stored without a zone and read as UTC, like every other
+ * timestamp the service hands out.
+ */
+@Component
+public class StudyReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(StudyReminderScheduler.class);
+
+    private final GroupMemberRepository repository;
+    private final NotificationPipeline pipeline;
+    private final Clock clock;
+    private final Duration lead;
+    private LocalDateTime scannedUntil;
+
+    public StudyReminderScheduler(GroupMemberRepository repository, NotificationPipeline pipeline, Clock clock,
+                                  NotificationProperties properties) {
+        this.repository = repository;
+        this.pipeline = pipeline;
+        this.clock = clock;
+        this.lead = properties.reminderLead();
+    }
+
+    @Scheduled(fixedDelayString = "${studit.notification.reminder-scan-interval:1m}")
+    public void scan() {
+        long now = clock.millis();
+        LocalDateTime until = LocalDateTime.ofEpochSecond(now / 1000, 0, ZoneOffset.UTC).plus(lead);
+        LocalDateTime from = scannedUntil == null ? until.minus(lead) : scannedUntil;
+        scannedUntil = from;
+        if (!until.isAfter(from)) {
+            return;
+        }
+        try {
+            // Split at midnight so each query looks at a single weekday.
+            for (LocalDateTime start = from; start.isBefore(until); ) {
+                LocalDateTime midnight = start.toLocalDate().plusDays(1).atStartOfDay();
+                LocalDateTime end = until.isBefore(midnight) ? until : midnight;
+                repository.forEachMemberOfSessionsStarting(start.getDayOfWeek(), start.toLocalTime(),
+                        end.equals(midnight) ? LocalTime.MAX : end.toLocalTime(),
+                        (groupId, memberId) -> pipeline.offer(
+                                Notification.of(memberId, NotificationType.STUDY_REMINDER, groupId, 0, now)));
+                start = end;
+                scannedUntil = end;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Study reminder scan failed at {}, will resume there on the next run", scannedUntil, e);
+        }
+    }
+}
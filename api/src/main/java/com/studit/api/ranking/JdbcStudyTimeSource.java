@@ -0,0 +1,52 @@
+package com.studit.api.ranking;
+
+import com.studit.core.attendance.SessionSnapshot;
+import com.studit.core.ranking.StudyTimeSource;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JdbcStudyTimeSource implements StudyTimeSource {
+
+    private final JdbcClient jdbc;
+
+    public JdbcStudyTimeSource(JdbcClient jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public void totals(TotalVisitor visitor) {
+        jdbc.sql("""
+                        SELECT s.member_id, COALESCE(g.id, 0) AS group_id, SUM(s.studied_millis) AS studied_millis
+                        FROM study_session s
+                        LEFT JOIN study_group g ON g.id = s.group_id
+                        GROUP BY s.member_id, g.id
+                        """)
+                .query((RowCallbackHandler) rs -> visitor.accept(rs.getLong("member_id"), rs.getLong("group_id"),
+                        rs.getLong("studied_millis")));
+    }
+
+    @Override
+    public List<SessionSnapshot> openSessions() {
+        return jdbc.sql("""
+                        SELECT member_id, group_id, started_at, last_seen_at, studied_millis
+                        FROM study_session
+                        WHERE ended_at IS NULL
+                        """)
+                .query((rs, row) -> new SessionSnapshot(
+                        rs.getLong("member_id"),
+                        rs.getLong("group_id"),
+                        epochMillis(rs.getObject("started_at", OffsetDateTime.class)),
+                        epochMillis(rs.getObject("last_seen_at", OffsetDateTime.class)),
+                        rs.getLong("studied_millis"),
+                        0))
+                .list();
+    }
+
+    private static long epochMillis(OffsetDateTime timestamp) {
+        return timestamp.toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,27 @@
+package com.studit.api.ranking;
+
+import com.studit.api.attendance.JdbcAttendanceSink;
+import com.studit.core.ranking.RankingFeed;
+import com.studit.core.ranking.Rankings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration(proxyBeanMethods = false)
+public class RankingConfig {
+
+    @Bean
+    public Rankings rankings() {
+        return new Rankings();
+    }
+
+    /**
+     * Wraps the JDBC sink so the attendance tracker credits the boards on
+     * every successful flush.
+     */
+    @Bean
+    @Primary
+    public RankingFeed rankingFeed(JdbcAttendanceSink sink, Rankings rankings) {
+        return new RankingFeed(sink, rankings);
+    }
+}
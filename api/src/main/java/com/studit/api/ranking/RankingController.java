@@ -0,0 +1,68 @@
+package com.studit.api.ranking;
+
+import com.studit.api.support.CursorPageResponse;
+import com.studit.api.support.NotFoundException;
+import com.studit.api.support.RequestHeaders;
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.PageRequest;
+import com.studit.core.ranking.Leaderboard;
+import com.studit.core.ranking.Rankings;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Study-time leaderboards, served from {@link Rankings} without touching the
+ * database. Scores trail live sessions by up to one attendance flush
+ * interval.
+ */
+@RestController
+public class RankingController {
+
+    private final Rankings rankings;
+
+    public RankingController(Rankings rankings) {
+        this.rankings = rankings;
+    }
+
+    @GetMapping("/api/rankings")
+    public CursorPageResponse<RankingEntryResponse> global(@RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer size) {
+        return page(Optional.of(rankings.global()), PageRequest.of(cursor, size));
+    }
+
+    @GetMapping("/api/rankings/me")
+    public RankingEntryResponse myGlobalRank(@RequestHeader(RequestHeaders.MEMBER_ID) long memberId) {
+        return rank(Optional.of(rankings.global()), memberId);
+    }
+
+    @GetMapping("/api/study-groups/{groupId}/rankings")
+    public CursorPageResponse<RankingEntryResponse> group(@PathVariable long groupId,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer size) {
+        return page(rankings.group(groupId), PageRequest.of(cursor, size));
+    }
+
+    @GetMapping("/api/study-groups/{groupId}/rankings/me")
+    public RankingEntryResponse myGroupRank(@PathVariable long groupId,
+                                            @RequestHeader(RequestHeaders.MEMBER_ID) long memberId) {
+        return rank(rankings.group(groupId), memberId);
+    }
+
+    private static CursorPageResponse<RankingEntryResponse> page(Optional<Leaderboard> board, PageRequest request) {
+        CursorPage<Leaderboard.Entry> page = board
+                .map(b -> b.page(request))
+                .orElseGet(() -> new CursorPage<>(List.of(), null));
+        return CursorPageResponse.from(page, RankingEntryResponse::from);
+    }
+
+    private static RankingEntryResponse rank(Optional<Leaderboard> board, long memberId) {
+        return board.flatMap(b -> b.entry(memberId))
+                .map(RankingEntryResponse::from)
+                .orElseThrow(() -> new NotFoundException("ranked study time of member", memberId));
+    }
+}
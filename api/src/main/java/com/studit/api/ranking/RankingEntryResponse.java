@@ -0,0 +1,10 @@
+package com.studit.api.ranking;
+
+import com.studit.core.ranking.Leaderboard;
+
+public record RankingEntryResponse(long rank, long memberId, long studiedSeconds) {
+
+    static RankingEntryResponse from(Leaderboard.Entry entry) {
+        return new RankingEntryResponse(entry.rank(), entry.memberId(), entry.score() / 1000);
+    }
+}
@@ -0,0 +1,49 @@
+package com.studit.api.ranking;
+
+import com.studit.api.group.StudyGroupChangedEvent;
+import com.studit.core.ranking.RankingFeed;
+import com.studit.core.ranking.Rankings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Builds the leaderboards from stored study sessions before the web server
+ * starts; from then on {@link RankingFeed} keeps them current. Boards of
+ * deleted groups are dropped.
+ */
+@Component
+public class RankingLoader implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingLoader.class);
+
+    private final RankingFeed feed;
+    private final JdbcStudyTimeSource source;
+    private final Rankings rankings;
+
+    public RankingLoader(RankingFeed feed, JdbcStudyTimeSource source, Rankings rankings) {
+        this.feed = feed;
+        this.source = source;
+        this.rankings = rankings;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long started = System.nanoTime();
+        try {
+            int members = feed.rebuild(source);
+            log.info("Ranked {} members in {} ms", members, (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            throw new IllegalStateException("Loading rankings failed", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StudyGroupChangedEvent event) {
+        if (event.change() == StudyGroupChangedEvent.Change.DELETED) {
+            rankings.removeGroup(event.groupId());
+        }
+    }
+}
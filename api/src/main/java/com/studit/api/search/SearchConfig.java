@@ -0,0 +1,14 @@
+package com.studit.api.search;
+
+import com.studit.core.search.StudyGroupIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class SearchConfig {
+
+    @Bean
+    public StudyGroupIndex studyGroupIndex() {
+        return new StudyGroupIndex();
+    }
+}
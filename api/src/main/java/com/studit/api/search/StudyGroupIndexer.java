@@ -0,0 +1,51 @@
+package com.studit.api.search;
+
+import com.studit.api.group.StudyGroup;
+import com.studit.api.group.StudyGroupChangedEvent;
+import com.studit.api.group.StudyGroupRepository;
+import com.studit.core.search.StudyGroupDocument;
+import com.studit.core.search.StudyGroupIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps {@link StudyGroupIndex} in step with the database: a full load before
+ * the web server starts accepting requests, then one incremental update per
+ * committed write.
+ */
+@Component
+public class StudyGroupIndexer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(StudyGroupIndexer.class);
+
+    private final StudyGroupIndex index;
+    private final StudyGroupRepository repository;
+
+    public StudyGroupIndexer(StudyGroupIndex index, StudyGroupRepository repository) {
+        this.index = index;
+        this.repository = repository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long started = System.nanoTime();
+        repository.forEach(group -> index.upsert(toDocument(group)));
+        log.info("Indexed {} study groups in {} ms", index.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StudyGroupChangedEvent event) {
+        switch (event.change()) {
+            case CREATED, UPDATED -> index.upsert(toDocument(event.group()));
+            case DELETED -> index.remove(event.groupId());
+        }
+    }
+
+    static StudyGroupDocument toDocument(StudyGroup group) {
+        return new StudyGroupDocument(group.id(), group.title(), group.tags(), group.region(),
+                group.days(), group.startTime());
+    }
+}
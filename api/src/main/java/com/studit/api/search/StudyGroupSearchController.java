@@ -0,0 +1,47 @@
+package com.studit.api.search;
+
+import com.studit.api.support.CursorPageResponse;
+import com.studit.core.paging.PageRequest;
+import com.studit.core.search.StudyGroupIndex;
+import com.studit.core.search.StudyGroupQuery;
+import com.studit.core.search.TimeBand;
+import java.time.DayOfWeek;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Study-group discovery. Served entirely from {@link StudyGroupIndex}; the
+ * database is not touched on this path.
+ */
+@RestController
+@RequestMapping("/api/study-groups")
+public class StudyGroupSearchController {
+
+    private final StudyGroupIndex index;
+
+    public StudyGroupSearchController(StudyGroupIndex index) {
+        this.index = index;
+    }
+
+    @GetMapping
+    public CursorPageResponse<StudyGroupSummary> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) List<DayOfWeek> days,
+            @RequestParam(required = false) List<TimeBand> bands,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        StudyGroupQuery query = StudyGroupQuery.builder()
+                .text(q)
+                .tags(tags)
+                .region(region)
+                .days(days)
+                .timeBands(bands)
+                .build();
+        return CursorPageResponse.from(index.search(query, PageRequest.of(cursor, size)), StudyGroupSummary::from);
+    }
+}
@@ -0,0 +1,20 @@
+package com.studit.api.search;
+
+import com.studit.core.search.StudyGroupDocument;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record StudyGroupSummary(
+        long id,
+        String title,
+        Set<String> tags,
+        String region,
+        Set<DayOfWeek> days,
+        LocalTime startTime) {
+
+    static StudyGroupSummary from(StudyGroupDocument document) {
+        return new StudyGroupSummary(document.groupId(), document.title(), document.tags(),
+                document.region(), document.days(), document.startTime());
+    }
+}
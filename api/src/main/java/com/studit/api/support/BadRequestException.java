@@ -0,0 +1,17 @@
+package com.studit.api.support;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a request parameter fails a check that bean validation cannot
+ * express. Mapped to 400 by {@link ApiExceptionHandler}.
+ */
+public class BadRequestException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
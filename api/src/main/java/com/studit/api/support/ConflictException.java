@@ -0,0 +1,17 @@
+package com.studit.api.support;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a request conflicts with the current state of a resource.
+ * Mapped to 409 by {@link ApiExceptionHandler}.
+ */
+public class ConflictException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.studit.api.support;
+
+import com.studit.core.paging.CursorPage;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Wire format shared by every list endpoint. Clients page by sending
+ * {@code nextCursor} back as the {@code cursor} query parameter until
+ * {@code hasNext} is false; offsets are not supported anywhere.
+ */
+public record CursorPageResponse<T>(List<T> items, String nextCursor, boolean hasNext) {
+
+    public static <T> CursorPageResponse<T> from(CursorPage<T> page) {
+        return from(page, Function.identity());
+    }
+
+    public static <S, T> CursorPageResponse<T> from(CursorPage<S> page, Function<? super S, ? extends T> mapper) {
+        List<T> items = page.items().stream().<T>map(mapper).toList();
+        return new CursorPageResponse<>(items, page.hasNext() ? page.next().encode() : null, page.hasNext());
+    }
+}
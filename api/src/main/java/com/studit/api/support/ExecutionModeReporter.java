@@ -0,0 +1,34 @@
+package com.studit.api.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs which request execution mode the service came up in, so that load
+ * test results and production incidents can be matched to it.
+ */
+@Component
+public class ExecutionModeReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModeReporter.class);
+
+    private final Environment environment;
+
+    public ExecutionModeReporter(Environment environment) {
+        this.environment = environment;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.info("Request execution: virtual thread per request");
+        } else {
+            log.info("Request execution: platform thread pool (max {} threads)",
+                    environment.getProperty("server.tomcat.threads.max", "200"));
+        }
+    }
+}
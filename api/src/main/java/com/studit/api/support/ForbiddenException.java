@@ -0,0 +1,17 @@
+package com.studit.api.support;
+
+import java.io.Serial;
+
+/**
+ * Thrown when the calling member may not act on an existing resource.
+ * Mapped to 403 by {@link ApiExceptionHandler}.
+ */
+public class ForbiddenException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.studit.api.support;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a requested resource does not exist. Mapped to 404 by
+ * {@link ApiExceptionHandler}.
+ */
+public class NotFoundException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public NotFoundException(String resource, Object id) {
+        super(resource + " " + id + " not found");
+    }
+}
@@ -0,0 +1,13 @@
+package com.studit.api.support;
+
+public final class RequestHeaders {
+
+    /**
+     * Id of the calling member. Stands in for an authenticated principal
+     * until authentication lands in the rewrite.
+     */
+    public static final String MEMBER_ID = "X-Member-Id";
+
+    private RequestHeaders() {
+    }
+}
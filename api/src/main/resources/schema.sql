@@ -0,0 +1,67 @@
+CREATE TABLE IF NOT EXISTS study_group (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title        VARCHAR(100)             NOT NULL,
+    description  VARCHAR(2000),
+    region       VARCHAR(50)              NOT NULL,
+    meeting_days SMALLINT                 NOT NULL,
+    start_time   TIME                     NOT NULL,
+    max_members  INT                      NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at   TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS study_group_tag (
+    group_id BIGINT      NOT NULL REFERENCES study_group (id) ON DELETE CASCADE,
+    tag      VARCHAR(30) NOT NULL,
+    PRIMARY KEY (group_id, tag)
+);
+
+CREATE TABLE IF NOT EXISTS member (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nickname   VARCHAR(30)              NOT NULL UNIQUE,
+    bio        VARCHAR(500),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Membership rows get their own identity so that both membership lists can
+-- page on a single monotonically increasing key.
+CREATE TABLE IF NOT EXISTS study_group_member (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    group_id  BIGINT                   NOT NULL REFERENCES study_group (id) ON DELETE CASCADE,
+    member_id BIGINT                   NOT NULL REFERENCES member (id) ON DELETE CASCADE,
+    joined_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uq_study_group_member UNIQUE (group_id, member_id)
+);
+
+CREATE INDEX IF NOT EXISTS ix_study_group_member_group ON study_group_member (group_id, id);
+CREATE INDEX IF NOT EXISTS ix_study_group_member_member ON study_group_member (member_id, id);
+
+-- Written in batches by the attendance flush; one row per study session,
+-- upserted with absolute values.
+CREATE TABLE IF NOT EXISTS study_session (
+    member_id      BIGINT                   NOT NULL,
+    started_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    group_id       BIGINT                   NOT NULL,
+    last_seen_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    studied_millis BIGINT                   NOT NULL,
+    ended_at       TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (member_id, started_at)
+);
+
+CREATE INDEX IF NOT EXISTS ix_study_session_group ON study_session (group_id, started_at);
+
+-- Metadata of files shared in a group; the content is in the object store
+-- under storage_key.
+CREATE TABLE IF NOT EXISTS attachment (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    group_id     BIGINT                   NOT NULL REFERENCES study_group (id) ON DELETE CASCADE,
+    uploader_id  BIGINT                   NOT NULL REFERENCES member (id),
+    file_name    VARCHAR(255)             NOT NULL,
+    content_type VARCHAR(255)             NOT NULL,
+    size_bytes   BIGINT                   NOT NULL,
+    sha256       CHAR(64)                 NOT NULL,
+    storage_key  VARCHAR(200)             NOT NULL UNIQUE,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_attachment_group ON attachment (group_id, id);
@@ -0,0 +1,163 @@
+package com.studit.api.attachment;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.studit.api.support.RequestHeaders;
+import com.studit.core.storage.LocalFileObjectStorage;
+import com.studit.core.storage.StoredObject;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class AttachmentControllerTest {
+
+    private static final long ID = 7;
+    private static final long MEMBER_ID = 3;
+    private static final String BODY = "0123456789";
+
+    @TempDir
+    Path directory;
+
+    private MockMvc mvc;
+    private String etag;
+    private LocalFileObjectStorage storage;
+    private AttachmentService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = new LocalFileObjectStorage(directory);
+        StoredObject stored = storage.put("groups/1/" + ID,
+                new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)), 100);
+        Attachment attachment = new Attachment(ID, 1, MEMBER_ID, "digits.txt", "text/plain", stored.size(),
+                stored.sha256(), stored.key(), Instant.EPOCH);
+        etag = "\"" + stored.sha256() + "\"";
+
+        service = mock(AttachmentService.class);
+        when(service.get(ID, MEMBER_ID)).thenReturn(attachment);
+        when(service.open(attachment)).thenAnswer(invocation -> storage.open(stored.key()).orElseThrow());
+        mvc = MockMvcBuilders.standaloneSetup(new AttachmentController(service)).build();
+    }
+
+    @Test
+    void withoutARangeTheWholeFileIsSent() throws Exception {
+        mvc.perform(download())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    void downloadsAreNotSniffedAndNonImagesAreSentAsFiles() throws Exception {
+        mvc.perform(download())
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment;")));
+    }
+
+    @Test
+    void onlyRasterImagesAreShownInline() throws Exception {
+        stub(8, "photo.png", "image/png");
+        stub(9, "logo.svg", "image/svg+xml");
+
+        mvc.perform(get("/api/attachments/{id}/content", 8).header(RequestHeaders.MEMBER_ID, MEMBER_ID))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("inline;")));
+        mvc.perform(get("/api/attachments/{id}/content", 9).header(RequestHeaders.MEMBER_ID, MEMBER_ID))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment;")));
+    }
+
+    @Test
+    void closedRangeIsSentAsPartialContent() throws Exception {
+        mvc.perform(download().header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    void suffixRangeSendsTheLastBytes() throws Exception {
+        mvc.perform(download().header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"))
+                .andExpect(content().string("789"));
+    }
+
+    @Test
+    void openEndedRangeRunsToTheEndOfTheFile() throws Exception {
+        mvc.perform(download().header(HttpHeaders.RANGE, "bytes=4-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 4-9/10"))
+                .andExpect(content().string("456789"));
+    }
+
+    @Test
+    void rangeEndPastTheFileIsClamped() throws Exception {
+        mvc.perform(download().header(HttpHeaders.RANGE, "bytes=8-100"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 8-9/10"))
+                .andExpect(content().string("89"));
+    }
+
+    @Test
+    void rangeStartingPastTheFileIsUnsatisfiable() throws Exception {
+        mvc.perform(download().header(HttpHeaders.RANGE, "bytes=10-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void malformedOrMultipleRangesGetTheWholeFile() throws Exception {
+        mvc.perform(download().header(HttpHeaders.RANGE, "bytes=5-2"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(BODY));
+        mvc.perform(download().header(HttpHeaders.RANGE, "bytes=0-1,4-5"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    void matchingIfRangeHonoursTheRange() throws Exception {
+        mvc.perform(download().header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    void staleIfRangeGetsTheWholeFile() throws Exception {
+        mvc.perform(download().header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().string(BODY));
+    }
+
+    private void stub(long id, String fileName, String contentType) throws Exception {
+        StoredObject stored = storage.put("groups/1/" + id,
+                new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)), 100);
+        Attachment attachment = new Attachment(id, 1, MEMBER_ID, fileName, contentType, stored.size(),
+                stored.sha256(), stored.key(), Instant.EPOCH);
+        when(service.get(id, MEMBER_ID)).thenReturn(attachment);
+        when(service.open(attachment)).thenAnswer(invocation -> storage.open(stored.key()).orElseThrow());
+    }
+
+    private static MockHttpServletRequestBuilder download() {
+        return get("/api/attachments/{id}/content", ID).header(RequestHeaders.MEMBER_ID, MEMBER_ID);
+    }
+}
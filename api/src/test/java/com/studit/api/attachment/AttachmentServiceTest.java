@@ -0,0 +1,67 @@
+package com.studit.api.attachment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.studit.api.group.GroupMemberRepository;
+import com.studit.api.group.StudyGroupService;
+import com.studit.api.support.BadRequestException;
+import com.studit.core.storage.ObjectStorage;
+import com.studit.core.storage.StoredObject;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.unit.DataSize;
+
+class AttachmentServiceTest {
+
+    private final AttachmentRepository repository = mock(AttachmentRepository.class);
+    private final GroupMemberRepository memberships = mock(GroupMemberRepository.class);
+    private final ObjectStorage storage = mock(ObjectStorage.class);
+    private final InputStream body = mock(InputStream.class);
+    private AttachmentService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        ObjectProvider<ObjectStorage> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(storage);
+        when(memberships.exists(1, 3)).thenReturn(true);
+        when(storage.put(anyString(), any(), anyLong()))
+                .thenAnswer(invocation -> new StoredObject(invocation.getArgument(0), 4, "abcd"));
+        when(repository.insert(any())).thenReturn(7L);
+        service = new AttachmentService(repository, memberships, mock(StudyGroupService.class), provider,
+                Clock.fixed(Instant.EPOCH, ZoneOffset.UTC),
+                new AttachmentProperties(Path.of("unused"), DataSize.ofMegabytes(1)));
+    }
+
+    @Test
+    void contentTypeIsStoredInNormalizedForm() throws Exception {
+        Attachment attachment = service.upload(1, 3, "notes.txt", "Text/Plain; charset=UTF-8", 4,
+                new ByteArrayInputStream(new byte[4]));
+
+        assertEquals("text/plain;charset=UTF-8", attachment.contentType());
+    }
+
+    @Test
+    void invalidContentTypeIsRejectedBeforeTheBodyIsRead() {
+        for (String contentType : new String[] {"not a type", "*/*", "image/*", "text/" + "x".repeat(300)}) {
+            assertThrows(BadRequestException.class,
+                    () -> service.upload(1, 3, "notes.txt", contentType, 4, body), contentType);
+        }
+
+        verifyNoInteractions(storage, body, repository);
+    }
+}
@@ -0,0 +1,142 @@
+package com.studit.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studit.api.group.GroupMembershipChangedEvent;
+import com.studit.api.group.StudyGroupChangedEvent;
+import com.studit.core.cache.InMemorySharedCache;
+import com.studit.core.cache.SharedCache;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class CacheInvalidatorTest {
+
+    private AnnotationConfigApplicationContext context;
+    private ApplicationEventPublisher events;
+    private TransactionTemplate transactions;
+    private SharedCache shared;
+    private Cache studyGroups;
+    private Cache groupRosters;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(TestConfig.class);
+        events = context;
+        transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        shared = context.getBean(SharedCache.class);
+        CacheManager caches = context.getBean(CacheManager.class);
+        studyGroups = caches.getCache(CacheNames.STUDY_GROUPS);
+        groupRosters = caches.getCache(CacheNames.GROUP_ROSTERS);
+        studyGroups.put(1L, "group 1");
+        studyGroups.put(2L, "group 2");
+        groupRosters.put(1L, "roster 1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void groupUpdateEvictsOnlyAfterCommit() {
+        transactions.executeWithoutResult(status -> {
+            events.publishEvent(new StudyGroupChangedEvent(1, StudyGroupChangedEvent.Change.UPDATED, null));
+
+            assertEquals("group 1", studyGroups.get(1L).get());
+        });
+
+        assertNull(studyGroups.get(1L));
+        assertNull(shared.get(CacheNames.STUDY_GROUPS, 1L));
+        assertEquals("group 2", studyGroups.get(2L).get());
+        assertEquals("roster 1", groupRosters.get(1L).get());
+    }
+
+    @Test
+    void groupDeleteEvictsTheGroupAndItsRoster() {
+        transactions.executeWithoutResult(status ->
+                events.publishEvent(new StudyGroupChangedEvent(1, StudyGroupChangedEvent.Change.DELETED, null)));
+
+        assertNull(studyGroups.get(1L));
+        assertNull(groupRosters.get(1L));
+        assertNull(shared.get(CacheNames.GROUP_ROSTERS, 1L));
+    }
+
+    @Test
+    void membershipChangeEvictsTheRosterAfterCommit() {
+        transactions.executeWithoutResult(status -> {
+            events.publishEvent(new GroupMembershipChangedEvent(1, 5, GroupMembershipChangedEvent.Change.JOINED));
+
+            assertEquals("roster 1", groupRosters.get(1L).get());
+        });
+
+        assertNull(groupRosters.get(1L));
+        assertEquals("group 1", studyGroups.get(1L).get());
+    }
+
+    @Test
+    void rolledBackChangeEvictsNothing() {
+        transactions.executeWithoutResult(status -> {
+            events.publishEvent(new GroupMembershipChangedEvent(1, 5, GroupMembershipChangedEvent.Change.LEFT));
+            status.setRollbackOnly();
+        });
+
+        assertEquals("roster 1", groupRosters.get(1L).get());
+    }
+
+    @Test
+    void changeOutsideATransactionEvictsAtOnce() {
+        events.publishEvent(new StudyGroupChangedEvent(2, StudyGroupChangedEvent.Change.UPDATED, null));
+
+        assertNull(studyGroups.get(2L));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableTransactionManagement
+    @Import(CacheInvalidator.class)
+    static class TestConfig {
+
+        @Bean
+        SharedCache sharedCache() {
+            return new InMemorySharedCache();
+        }
+
+        @Bean
+        CacheManager cacheManager(SharedCache shared) {
+            SimpleCacheManager manager = new SimpleCacheManager();
+            manager.setCaches(List.of(CacheNames.STUDY_GROUPS, CacheNames.GROUP_ROSTERS).stream()
+                    .map(name -> new TwoTierCache(name, Caffeine.newBuilder().build(), shared,
+                            Duration.ofMinutes(1)))
+                    .toList());
+            return manager;
+        }
+
+        @Bean
+        DataSource dataSource() {
+            return new DriverManagerDataSource("jdbc:h2:mem:cache-invalidator;DB_CLOSE_DELAY=-1");
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+}
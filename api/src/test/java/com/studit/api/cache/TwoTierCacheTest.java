@@ -0,0 +1,160 @@
+package com.studit.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studit.core.cache.InMemorySharedCache;
+import com.studit.core.cache.SharedCache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+class TwoTierCacheTest {
+
+    private final SharedCache shared = new InMemorySharedCache();
+    private final ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void sharedTierAnswersAnotherInstancesMiss() {
+        TwoTierCache first = cache(shared);
+        TwoTierCache second = cache(shared);
+
+        assertEquals("group 1", first.get(1L, () -> "group 1"));
+        String value = second.get(1L, () -> {
+            throw new AssertionError("the shared tier holds the value");
+        });
+
+        assertEquals("group 1", value);
+        assertEquals(1, second.sharedHits());
+        assertEquals(1, first.sharedMisses());
+        assertEquals("group 1", second.getNativeCache().getIfPresent(1L));
+    }
+
+    @Test
+    void evictionIsPublishedToEveryInstance() {
+        TwoTierCache first = cache(shared);
+        TwoTierCache second = cache(shared);
+        first.put(1L, "group 1");
+        second.get(1L, () -> "group 1");
+
+        first.evict(1L);
+
+        assertNull(second.getNativeCache().getIfPresent(1L));
+        assertNull(shared.get("test", 1L));
+        assertNull(second.get(1L));
+    }
+
+    @Test
+    void clearIsPublishedToEveryInstance() {
+        TwoTierCache first = cache(shared);
+        TwoTierCache second = cache(shared);
+        first.put(1L, "group 1");
+        second.put(2L, "group 2");
+
+        first.clear();
+
+        assertEquals(0, second.getNativeCache().estimatedSize());
+        assertNull(shared.get("test", 2L));
+    }
+
+    @Test
+    void concurrentMissesOnOneKeyLoadOnce() throws Exception {
+        TwoTierCache cache = cache(null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> callers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            callers.add(threads.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                release.await();
+                return "group 1";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<String> caller : callers) {
+            assertEquals("group 1", caller.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void slowLoadDoesNotHoldUpOtherKeys() throws Exception {
+        TwoTierCache cache = cache(null);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> slow = threads.submit(() -> cache.get(1L, () -> {
+            loading.countDown();
+            release.await();
+            return "group 1";
+        }));
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+        // Caffeine maps keys 1..64 over few enough bins that one is shared with key 1.
+        for (long key = 2; key <= 64; key++) {
+            long k = key;
+            assertEquals("group " + k, threads.submit(() -> cache.get(k, () -> "group " + k))
+                    .get(10, TimeUnit.SECONDS));
+        }
+        release.countDown();
+        assertEquals("group 1", slow.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void evictionDetachesARunningLoad() throws Exception {
+        TwoTierCache cache = cache(null);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> stale = threads.submit(() -> cache.get(1L, () -> {
+            loading.countDown();
+            release.await();
+            return "old";
+        }));
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+        threads.submit(() -> cache.evict(1L)).get(10, TimeUnit.SECONDS);
+        assertEquals("new", threads.submit(() -> cache.get(1L, () -> "new")).get(10, TimeUnit.SECONDS));
+        release.countDown();
+
+        assertEquals("old", stale.get(10, TimeUnit.SECONDS));
+        assertEquals("new", cache.get(1L).get());
+    }
+
+    @Test
+    void failedLoadReachesItsCallerAndIsNotCached() {
+        TwoTierCache cache = cache(null);
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+
+        Cache.ValueRetrievalException e = assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get(1L, () -> {
+                    throw failure;
+                }));
+
+        assertSame(failure, e.getCause());
+        assertEquals("group 1", cache.get(1L, () -> "group 1"));
+    }
+
+    private static TwoTierCache cache(SharedCache shared) {
+        return new TwoTierCache("test", Caffeine.newBuilder().maximumSize(100).build(), shared,
+                Duration.ofMinutes(1));
+    }
+}
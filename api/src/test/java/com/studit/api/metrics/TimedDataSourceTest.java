@@ -0,0 +1,111 @@
+package com.studit.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class TimedDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private HikariDataSource pool;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void wrapPool() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:timed-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(1);
+        config.setConnectionTimeout(1_000);
+        pool = new HikariDataSource(config);
+        dataSource = (DataSource) wrapper().postProcessAfterInitialization(pool, "dataSource");
+    }
+
+    @AfterEach
+    void closePool() {
+        pool.close();
+    }
+
+    @Test
+    void wrapperReplacesTheDataSourceOnce() {
+        assertInstanceOf(TimedDataSource.class, dataSource);
+        assertSame(dataSource, wrapper().postProcessAfterInitialization(dataSource, "dataSource"));
+    }
+
+    @Test
+    void statementsAreTimedByVerbAndOutcome() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table note (id bigint primary key)");
+                statement.executeUpdate("insert into note values (1)");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("  SELECT id FROM note WHERE id = ?")) {
+                statement.setLong(1, 1);
+                try (ResultSet rows = statement.executeQuery()) {
+                    assertTrue(rows.next());
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                assertThrows(SQLException.class, () -> statement.executeQuery("select nope from note"));
+            }
+        }
+
+        assertEquals(1, timer("other", "success").count());
+        assertEquals(1, timer("insert", "success").count());
+        assertEquals(1, timer("select", "success").count());
+        assertEquals(1, timer("select", "error").count());
+        assertTrue(timer("select", "success").totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void closingTheProxiedConnectionReturnsItToThePool() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        assertEquals(1, pool.getHikariPoolMXBean().getActiveConnections());
+
+        connection.close();
+
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+        assertEquals(1, pool.getHikariPoolMXBean().getIdleConnections());
+        // The pool holds a single connection, so this only succeeds if it came back.
+        try (Connection again = dataSource.getConnection(); Statement statement = again.createStatement()) {
+            statement.execute("select 1");
+        }
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+    }
+
+    @Test
+    void unwrapStillReachesHikari() throws SQLException {
+        assertTrue(dataSource.isWrapperFor(HikariDataSource.class));
+        assertSame(pool, dataSource.unwrap(HikariDataSource.class));
+    }
+
+    private BeanPostProcessor wrapper() {
+        return MetricsConfig.timedDataSourceWrapper(
+                new StaticListableBeanFactory(Map.of("registry", registry)).getBeanProvider(MeterRegistry.class));
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return registry.get(TimedDataSource.METRIC).tags("operation", operation, "outcome", outcome).timer();
+    }
+}
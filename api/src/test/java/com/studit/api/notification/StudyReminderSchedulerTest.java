@@ -0,0 +1,81 @@
+package com.studit.api.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.studit.api.group.GroupMemberRepository;
+import com.studit.api.group.GroupMemberRepository.SessionMemberVisitor;
+import com.studit.core.notification.NotificationPipeline;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+class StudyReminderSchedulerTest {
+
+    private final GroupMemberRepository repository = mock(GroupMemberRepository.class);
+    private final NotificationPipeline pipeline = NotificationPipeline.builder(batch -> { }).build();
+    private final Clock clock = mock(Clock.class);
+    private final StudyReminderScheduler scheduler = new StudyReminderScheduler(repository, pipeline, clock,
+            new NotificationProperties(100, 10, Duration.ofMillis(500), 5, Duration.ofMillis(200),
+                    Duration.ofSeconds(30), Duration.ofMinutes(15), Duration.ofMinutes(1)));
+
+    @Test
+    void failedScanResumesAtTheSliceThatFailed() {
+        // Monday 23:50 plus a 15 minute lead reaches past midnight: a Monday and a Tuesday slice.
+        when(clock.millis()).thenReturn(
+                Instant.parse("2026-10-19T23:50:00Z").toEpochMilli(),
+                Instant.parse("2026-10-19T23:51:00Z").toEpochMilli());
+        doAnswer(invocation -> {
+            invocation.<SessionMemberVisitor>getArgument(3).accept(1, 100);
+            return null;
+        }).when(repository).forEachMemberOfSessionsStarting(eq(DayOfWeek.MONDAY), any(), any(), any());
+        doThrow(new DataAccessResourceFailureException("connection reset"))
+                .doAnswer(invocation -> {
+                    invocation.<SessionMemberVisitor>getArgument(3).accept(2, 200);
+                    return null;
+                })
+                .when(repository).forEachMemberOfSessionsStarting(eq(DayOfWeek.TUESDAY), any(), any(), any());
+
+        scheduler.scan();
+        scheduler.scan();
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).forEachMemberOfSessionsStarting(eq(DayOfWeek.MONDAY), eq(LocalTime.of(23, 50)),
+                eq(LocalTime.MAX), any());
+        order.verify(repository).forEachMemberOfSessionsStarting(eq(DayOfWeek.TUESDAY), eq(LocalTime.MIDNIGHT),
+                eq(LocalTime.of(0, 5)), any());
+        order.verify(repository).forEachMemberOfSessionsStarting(eq(DayOfWeek.TUESDAY), eq(LocalTime.MIDNIGHT),
+                eq(LocalTime.of(0, 6)), any());
+        verifyNoMoreInteractions(repository);
+        assertEquals(2, pipeline.stats().offered());
+    }
+
+    @Test
+    void consecutiveScansCoverAdjacentWindows() {
+        when(clock.millis()).thenReturn(
+                Instant.parse("2026-10-19T09:00:00Z").toEpochMilli(),
+                Instant.parse("2026-10-19T09:01:30Z").toEpochMilli());
+
+        scheduler.scan();
+        scheduler.scan();
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).forEachMemberOfSessionsStarting(eq(DayOfWeek.MONDAY), eq(LocalTime.of(9, 0)),
+                eq(LocalTime.of(9, 15)), any());
+        order.verify(repository).forEachMemberOfSessionsStarting(eq(DayOfWeek.MONDAY), eq(LocalTime.of(9, 15)),
+                eq(LocalTime.of(9, 16, 30)), any());
+        verifyNoMoreInteractions(repository);
+    }
+}
@@ -0,0 +1,71 @@
+package com.studit.api.support;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.studit.core.paging.PageRequest;
+import com.studit.core.ranking.Leaderboard;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+class ApiExceptionHandlerTest {
+
+    private final MockMvc mvc = MockMvcBuilders.standaloneSetup(new TestController())
+            .setControllerAdvice(new ApiExceptionHandler())
+            .build();
+
+    @Test
+    void malformedCursorIsABadRequest() throws Exception {
+        mvc.perform(get("/page").param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("cursor is not valid Base64"));
+    }
+
+    @Test
+    void pageSizeOutOfRangeIsABadRequest() throws Exception {
+        mvc.perform(get("/page").param("size", "1000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("page size must be between 1 and 100: 1000"));
+    }
+
+    @Test
+    void badRequestExceptionIsABadRequest() throws Exception {
+        mvc.perform(get("/bad-request"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("file name must be printable"));
+    }
+
+    @Test
+    void otherIllegalArgumentsAreLeftToTheServerErrorHandling() {
+        ServletException e = assertThrows(ServletException.class, () -> mvc.perform(get("/bug")));
+
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @RestController
+    static class TestController {
+
+        @GetMapping("/page")
+        int page(@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+            return PageRequest.of(cursor, size).size();
+        }
+
+        @GetMapping("/bad-request")
+        void badRequest() {
+            throw new BadRequestException("file name must be printable");
+        }
+
+        @GetMapping("/bug")
+        void bug() {
+            new Leaderboard().set(1, -1);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.studit.api.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:virtual-threads-${random.uuid};DB_CLOSE_DELAY=-1",
+        "studit.attendance.journal-directory=build/test-data/${random.uuid}/attendance",
+        "studit.attachment.directory=build/test-data/${random.uuid}/attachments"})
+@Import(VirtualThreadsTest.ProbeConfig.class)
+class VirtualThreadsTest {
+
+    @Autowired
+    TestRestTemplate http;
+
+    @Autowired
+    TaskScheduler scheduler;
+
+    @Test
+    void requestsAreHandledOnVirtualThreads() {
+        assertEquals(Boolean.TRUE, http.getForObject("/test/thread/virtual", Boolean.class));
+    }
+
+    @Test
+    void scheduledTasksRunOnVirtualThreads() throws Exception {
+        assertTrue(schedulerThreadIsVirtual(scheduler));
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+    class WhenDisabled {
+
+        @Autowired
+        TestRestTemplate http;
+
+        @Autowired
+        TaskScheduler scheduler;
+
+        @Test
+        void requestsAreHandledOnPlatformThreads() {
+            assertEquals(Boolean.FALSE, http.getForObject("/test/thread/virtual", Boolean.class));
+        }
+
+        @Test
+        void scheduledTasksRunOnPlatformThreads() throws Exception {
+            assertFalse(schedulerThreadIsVirtual(scheduler));
+        }
+    }
+
+    private static boolean schedulerThreadIsVirtual(TaskScheduler scheduler) throws Exception {
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        scheduler.schedule(() -> virtual.complete(Thread.currentThread().isVirtual()), Instant.now());
+        return virtual.get(10, TimeUnit.SECONDS);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class ProbeConfig {
+
+        @Bean
+        ThreadProbe threadProbe() {
+            return new ThreadProbe();
+        }
+    }
+
+    @RestController
+    static class ThreadProbe {
+
+        @GetMapping("/test/thread/virtual")
+        boolean virtual() {
+            return Thread.currentThread().isVirtual();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.studit.benchmarks.attendance;
+
+import com.studit.api.attendance.JdbcAttendanceSink;
+import com.studit.core.attendance.AttendanceJournal;
+import com.studit.core.attendance.AttendanceSink;
+import com.studit.core.attendance.AttendanceTracker;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Cost of one study-timer heartbeat as the number of open sessions grows.
+ * <p>
+ * {@code heartbeat} is the request-path cost: journal append plus in-memory
+ * update. {@code heartbeatWithFlush} also pays for the database: every
+ * session beats once between flushes (the worst case for write-behind) and
+ * each flush upserts them into embedded H2 in one JDBC batch, so the
+ * reported time per heartbeat includes its share of the batched write.
+ * <pre>
+ * ./gradlew :benchmarks:jmh -Pjmh.includes=AttendanceHeartbeatBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AttendanceHeartbeatBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int activeSessions;
+
+    private Path journalDirectory;
+    private JdbcDataSource dataSource;
+    private AttendanceTracker memoryOnly;
+    private AttendanceTracker writeBehind;
+    private long now;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void open() throws IOException {
+        journalDirectory = Files.createTempDirectory("attendance-bench");
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:attendance;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        JdbcAttendanceSink jdbcSink = new JdbcAttendanceSink(new JdbcTemplate(dataSource));
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        AttendanceSink sink = sessions -> transaction.executeWithoutResult(status -> jdbcSink.write(sessions));
+
+        now = System.currentTimeMillis();
+        memoryOnly = tracker(journalDirectory.resolve("memory"), sessions -> { });
+        writeBehind = tracker(journalDirectory.resolve("jdbc"), sink);
+    }
+
+    private AttendanceTracker tracker(Path directory, AttendanceSink sink) {
+        AttendanceTracker tracker = new AttendanceTracker(new AttendanceJournal(directory), sink,
+                Duration.ofHours(1), Duration.ofDays(1));
+        for (long member = 1; member <= activeSessions; member++) {
+            tracker.checkIn(member, member % 500, now);
+        }
+        return tracker;
+    }
+
+    /** Rotates the journals so they do not grow across iterations. */
+    @Setup(Level.Iteration)
+    public void rotate() throws Exception {
+        memoryOnly.flush(now);
+        writeBehind.flush(now);
+        next = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+        try (Stream<Path> files = Files.walk(journalDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public boolean heartbeat() {
+        return memoryOnly.heartbeat(nextMember(), ++now);
+    }
+
+    @Benchmark
+    public boolean heartbeatWithFlush() throws Exception {
+        boolean beat = writeBehind.heartbeat(nextMember(), ++now);
+        if (next == activeSessions) {
+            writeBehind.flush(now);
+        }
+        return beat;
+    }
+
+    private long nextMember() {
+        if (next == activeSessions) {
+            next = 0;
+        }
+        return ++next;
+    }
+}
@@ -0,0 +1,234 @@
+package com.studit.benchmarks.load;
+
+import com.studit.api.StuditApplication;
+import com.studit.core.chat.ChatHub;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Boots the service, opens many chat sockets spread over equally sized
+ * rooms, and sends messages at a fixed rate from random members. Each
+ * message carries its send time in {@code ref}; fast receivers record the
+ * end-to-end delivery latency. A fraction of the clients read slowly, which
+ * is what the per-connection outbound buffers exist for: their latency must
+ * not leak into everybody else's.
+ * <pre>
+ * ./gradlew :benchmarks:chatFanOutLoadTest
+ * ./gradlew :benchmarks:chatFanOutLoadTest -Ploadtest.connections=2000 -Ploadtest.roomSize=100
+ * </pre>
+ * Client and server share the process, so every connection costs two file
+ * descriptors; raise {@code ulimit -n} above twice {@code connections}.
+ * <p>
+ * Settings: {@code connections}, {@code roomSize}, {@code messagesPerSecond}
+ * (across all rooms), {@code slowPercent} (share of slow readers),
+ * {@code slowReadMs} (pause before a slow reader takes its next frame),
+ * {@code warmup} and {@code duration} (e.g. {@code 10s}).
+ */
+public final class ChatFanOutLoadTest {
+
+    private static final int CONNECT_BATCH = 200;
+
+    public static void main(String[] args) throws Exception {
+        int connections = HarnessProperties.intValue("connections", 10_000);
+        int roomSize = HarnessProperties.intValue("roomSize", 50);
+        int messagesPerSecond = HarnessProperties.intValue("messagesPerSecond", 200);
+        int slowPercent = HarnessProperties.intValue("slowPercent", 1);
+        Duration slowRead = Duration.ofMillis(HarnessProperties.intValue("slowReadMs", 200));
+        Duration warmup = HarnessProperties.duration("warmup", Duration.ofSeconds(5));
+        Duration duration = HarnessProperties.duration("duration", Duration.ofSeconds(20));
+        int rooms = Math.max(1, connections / roomSize);
+
+        Map<String, Object> properties = Map.of(
+                "server.port", 0,
+                "server.tomcat.max-connections", connections + 100,
+                "spring.datasource.url", "jdbc:h2:mem:chat-loadtest;DB_CLOSE_DELAY=-1",
+                "logging.level.root", "WARN");
+        String[] arguments = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        try (ConfigurableApplicationContext context = new SpringApplication(StuditApplication.class).run(arguments);
+             ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+             ScheduledExecutorService timer = Executors.newScheduledThreadPool(2)) {
+            seed(context.getBean(JdbcTemplate.class), connections, rooms);
+            URI base = URI.create("ws://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            HttpClient client = HttpClient.newBuilder().executor(clientThreads).build();
+            Recorder recorder = new Recorder();
+
+            List<Client> clients = new ArrayList<>(connections);
+            for (int from = 0; from < connections; from += CONNECT_BATCH) {
+                List<CompletableFuture<Client>> batch = new ArrayList<>();
+                for (int i = from; i < Math.min(connections, from + CONNECT_BATCH); i++) {
+                    long memberId = i + 1;
+                    long groupId = 1 + i % rooms;
+                    boolean slow = i % 100 < slowPercent;
+                    Receiver receiver = new Receiver(recorder, slow ? slowRead : Duration.ZERO, timer);
+                    batch.add(client.newWebSocketBuilder()
+                            .buildAsync(base.resolve("/ws/chat/" + groupId + "?memberId=" + memberId), receiver)
+                            .thenApply(socket -> new Client(socket, slow)));
+                }
+                batch.forEach(future -> clients.add(future.join()));
+            }
+            System.out.printf("%d sockets open in %d rooms, %d%% slow readers (%d ms per frame)%n",
+                    clients.size(), rooms, slowPercent, slowRead.toMillis());
+
+            run(clients, messagesPerSecond, warmup, timer);
+            recorder.reset();
+            long sent = run(clients, messagesPerSecond, duration, timer);
+            print(recorder, sent, roomSize * (100 - slowPercent) / 100.0, duration, context);
+            clients.forEach(c -> c.socket().abort());
+        }
+    }
+
+    private static void seed(JdbcTemplate jdbc, int members, int rooms) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> groups = new ArrayList<>();
+        for (long id = 1; id <= rooms; id++) {
+            groups.add(new Object[] {id, "chat " + id, now, now});
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO study_group (id, title, region, meeting_days, start_time, max_members, created_at, updated_at)
+                VALUES (?, ?, 'online', 1, TIME '20:00:00', 1000000, ?, ?)
+                """, groups);
+        List<Object[]> rows = new ArrayList<>();
+        List<Object[]> memberships = new ArrayList<>();
+        for (long id = 1; id <= members; id++) {
+            rows.add(new Object[] {id, "chatter-" + id, now});
+            memberships.add(new Object[] {1 + (id - 1) % rooms, id, now});
+        }
+        jdbc.batchUpdate("INSERT INTO member (id, nickname, created_at) VALUES (?, ?, ?)", rows);
+        jdbc.batchUpdate("INSERT INTO study_group_member (group_id, member_id, joined_at) VALUES (?, ?, ?)",
+                memberships);
+    }
+
+    /**
+     * Sends from random fast clients at a fixed rate. Runs of a fixed-rate
+     * task never overlap and each send is awaited, which keeps to the JDK
+     * client's limit of one outstanding text frame per socket.
+     */
+    private static long run(List<Client> clients, int messagesPerSecond, Duration duration,
+                            ScheduledExecutorService timer) throws InterruptedException {
+        AtomicLong sent = new AtomicLong();
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / messagesPerSecond;
+        var task = timer.scheduleAtFixedRate(() -> {
+            Client sender = clients.get(ThreadLocalRandom.current().nextInt(clients.size()));
+            if (sender.slow()) {
+                return;
+            }
+            String frame = "{\"type\":\"message\",\"text\":\"load\",\"ref\":\"" + System.nanoTime() + "\"}";
+            sender.socket().sendText(frame, true).join();
+            sent.incrementAndGet();
+        }, 0, periodNanos, TimeUnit.NANOSECONDS);
+        Thread.sleep(duration.toMillis());
+        task.cancel(false);
+        // Let in-flight deliveries land inside the measured window.
+        Thread.sleep(500);
+        return sent.get();
+    }
+
+    private static void print(Recorder recorder, long sent, double fastPerRoom, Duration duration,
+                              ConfigurableApplicationContext context) {
+        Histogram latencies = recorder.latencies;
+        ChatHub.Stats stats = context.getBean(ChatHub.class).stats();
+        System.out.println();
+        System.out.printf("sent %d messages (%.0f/s), %d deliveries to fast readers (~%.0f expected)%n",
+                sent, sent / (double) duration.toSeconds(), latencies.getTotalCount(), sent * fastPerRoom);
+        System.out.printf("delivery latency ms: p50 %.2f  p99 %.2f  p99.9 %.2f  max %.2f%n",
+                latencies.getValueAtPercentile(50) / 1e6, latencies.getValueAtPercentile(99) / 1e6,
+                latencies.getValueAtPercentile(99.9) / 1e6, latencies.getMaxValue() / 1e6);
+        System.out.printf("slow readers received %d frames, %d overflow notices%n",
+                recorder.slowFrames.get(), recorder.overflowNotices.get());
+        System.out.printf("hub: %d connections, %d queued, %d sent, %d dropped, %d coalesced%n",
+                stats.connections(), stats.queuedFrames(), stats.sentFrames(), stats.droppedFrames(),
+                stats.coalescedFrames());
+    }
+
+    private record Client(WebSocket socket, boolean slow) {
+    }
+
+    private static final class Recorder {
+
+        final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+        final AtomicLong slowFrames = new AtomicLong();
+        final AtomicLong overflowNotices = new AtomicLong();
+
+        void reset() {
+            latencies.reset();
+            slowFrames.set(0);
+            overflowNotices.set(0);
+        }
+    }
+
+    /**
+     * Parses just enough of each frame to find {@code ref}. Slow readers
+     * delay their next {@link WebSocket#request} so the server's writes back
+     * up into its outbound buffer.
+     */
+    private static final class Receiver implements WebSocket.Listener {
+
+        private static final String REF = "\"ref\":\"";
+
+        private final Recorder recorder;
+        private final Duration readDelay;
+        private final ScheduledExecutorService timer;
+        private final StringBuilder partial = new StringBuilder();
+
+        Receiver(Recorder recorder, Duration readDelay, ScheduledExecutorService timer) {
+            this.recorder = recorder;
+            this.readDelay = readDelay;
+            this.timer = timer;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                record(partial.toString());
+                partial.setLength(0);
+            }
+            if (readDelay.isZero()) {
+                socket.request(1);
+            } else {
+                timer.schedule(() -> socket.request(1), readDelay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return null;
+        }
+
+        private void record(String frame) {
+            if (!readDelay.isZero()) {
+                recorder.slowFrames.incrementAndGet();
+                if (frame.startsWith("{\"type\":\"overflow\"")) {
+                    recorder.overflowNotices.incrementAndGet();
+                }
+                return;
+            }
+            int start = frame.indexOf(REF);
+            if (start < 0) {
+                return;
+            }
+            start += REF.length();
+            long sentAt = Long.parseLong(frame, start, frame.indexOf('"', start), 10);
+            long latency = System.nanoTime() - sentAt;
+            recorder.latencies.recordValue(Math.min(latency, recorder.latencies.getHighestTrackableValue()));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.studit.benchmarks.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Closed-loop HTTP load: a fixed number of callers, each sending its next
+ * request as soon as the previous one completes. Throughput at a given
+ * concurrency is then a direct measure of how many requests the server can
+ * keep in flight.
+ */
+final class ClosedLoopLoad {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+
+    ClosedLoopLoad(HttpClient client) {
+        this.client = client;
+    }
+
+    static HttpClient newClient(ExecutorService executor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * Runs {@code callers} virtual-thread callers for {@code warmup} plus
+     * {@code duration}; only the second window is recorded.
+     *
+     * @param uris request target for the n-th request of a caller
+     */
+    Result run(int callers, Duration warmup, Duration duration, IntFunction<URI> uris) throws Exception {
+        Histogram latencies = new ConcurrentHistogram(REQUEST_TIMEOUT.toNanos(), 3);
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        try (ExecutorService callerThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>(callers);
+            for (int c = 0; c < callers; c++) {
+                int caller = c;
+                running.add(callerThreads.submit(() -> {
+                    int n = caller;
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        HttpRequest request = HttpRequest.newBuilder(uris.apply(n++))
+                                .timeout(REQUEST_TIMEOUT)
+                                .GET()
+                                .build();
+                        boolean ok;
+                        try {
+                            ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long done = System.nanoTime();
+                        if (now >= measureFrom && done <= end) {
+                            if (ok) {
+                                latencies.recordValue(Math.min(done - now, latencies.getHighestTrackableValue()));
+                                completed.incrementAndGet();
+                            } else {
+                                failed.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> caller : running) {
+                caller.get();
+            }
+        }
+        return new Result(callers, completed.get(), failed.get(), duration, latencies);
+    }
+
+    record Result(int callers, long completed, long failed, Duration duration, Histogram latencies) {
+
+        double throughput() {
+            return completed / (duration.toNanos() / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1e6;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.studit.benchmarks.load;
+
+import com.studit.api.StuditApplication;
+import com.studit.api.support.RequestHeaders;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the service twice on an embedded H2 database, once per request
+ * execution mode, and drives both with the same closed-loop load at rising
+ * concurrency. Every statement is delayed by a simulated database round
+ * trip, so requests spend almost all their time blocked in JDBC, which is
+ * the shape of our production traffic. The load reads members' joined-group
+ * lists, which are never cached: a cached endpoint such as
+ * {@code GET /api/study-groups/{id}} stops touching the database after
+ * warmup and would measure nothing but the cache.
+ * <pre>
+ * ./gradlew :benchmarks:executionModeLoadTest
+ * ./gradlew :benchmarks:executionModeLoadTest -Ploadtest.concurrency=100,1000 -Ploadtest.dbLatencyMs=20
+ * </pre>
+ * Settings: {@code concurrency} (callers per step), {@code dbLatencyMs},
+ * {@code dbPool} (Hikari pool size), {@code platformThreads} (Tomcat pool in
+ * platform mode), {@code warmup} and {@code duration} (e.g. {@code 10s}).
+ */
+public final class ExecutionModeLoadTest {
+
+    private static final int GROUPS = 200;
+    private static final int MEMBERS = 200;
+    private static final int GROUPS_PER_MEMBER = 3;
+
+    public static void main(String[] args) throws Exception {
+        int[] concurrency = HarnessProperties.intList("concurrency", 50, 200, 800, 1600);
+        Duration dbLatency = Duration.ofMillis(HarnessProperties.intValue("dbLatencyMs", 50));
+        int dbPool = HarnessProperties.intValue("dbPool", 400);
+        int platformThreads = HarnessProperties.intValue("platformThreads", 200);
+        Duration warmup = HarnessProperties.duration("warmup", Duration.ofSeconds(3));
+        Duration duration = HarnessProperties.duration("duration", Duration.ofSeconds(10));
+
+        System.out.printf("DB round trip %d ms, pool %d, platform threads %d, %s per step%n",
+                dbLatency.toMillis(), dbPool, platformThreads, duration);
+        List<Row> rows = new ArrayList<>();
+        for (boolean virtual : new boolean[] {false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            // Passed as command-line arguments so they win over application.yml.
+            Map<String, Object> properties = Map.of(
+                    "server.port", 0,
+                    "spring.threads.virtual.enabled", virtual,
+                    "server.tomcat.threads.max", platformThreads,
+                    "spring.datasource.url", "jdbc:h2:mem:loadtest-" + mode + ";DB_CLOSE_DELAY=-1",
+                    "spring.datasource.hikari.maximum-pool-size", dbPool,
+                    "spring.datasource.hikari.connection-timeout", 30_000,
+                    "logging.level.root", "WARN");
+            SpringApplication application = new SpringApplication(StuditApplication.class, DbLatencyInjection.class);
+            String[] arguments = properties.entrySet().stream()
+                    .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                    .toArray(String[]::new);
+            DbLatencyInjection.roundTrip = Duration.ZERO;
+            try (ConfigurableApplicationContext context = application.run(arguments);
+                 ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+                URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+                HttpClient client = ClosedLoopLoad.newClient(clientThreads);
+                seed(client, base);
+                DbLatencyInjection.roundTrip = dbLatency;
+                ClosedLoopLoad load = new ClosedLoopLoad(client);
+                for (int callers : concurrency) {
+                    ClosedLoopLoad.Result result = load.run(callers, warmup, duration,
+                            n -> base.resolve("/api/members/" + (1 + n % MEMBERS) + "/study-groups"));
+                    rows.add(new Row(mode, result));
+                    System.out.printf("%-8s %5d callers: %8.0f req/s%n", mode, callers, result.throughput());
+                }
+            }
+        }
+        print(rows);
+    }
+
+    /**
+     * Creates groups and members with ids 1..n on the fresh database, and
+     * has every member join a few groups.
+     */
+    private static void seed(HttpClient client, URI base) throws Exception {
+        for (int i = 0; i < GROUPS; i++) {
+            send(client, json(base.resolve("/api/study-groups"), """
+                    {"title":"load test %d","tags":["load"],"region":"online","days":["MONDAY"],
+                     "startTime":"20:00","maxMembers":10}
+                    """.formatted(i)), 201);
+        }
+        for (int i = 0; i < MEMBERS; i++) {
+            send(client, json(base.resolve("/api/members"), """
+                    {"nickname":"load test %d"}
+                    """.formatted(i)), 201);
+        }
+        for (int i = 0; i < MEMBERS; i++) {
+            for (int k = 0; k < GROUPS_PER_MEMBER; k++) {
+                long groupId = 1 + (i * GROUPS_PER_MEMBER + k) % GROUPS;
+                send(client, HttpRequest.newBuilder(base.resolve("/api/study-groups/" + groupId + "/members"))
+                        .header(RequestHeaders.MEMBER_ID, Long.toString(1 + i))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build(), 204);
+            }
+        }
+    }
+
+    private static HttpRequest json(URI uri, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static void send(HttpClient client, HttpRequest request, int expectedStatus) throws Exception {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(
+                    "seeding " + request.uri().getPath() + " failed with HTTP " + response.statusCode());
+        }
+    }
+
+    private static void print(List<Row> rows) {
+        System.out.println();
+        System.out.printf("%-9s %8s %12s %10s %10s %10s %8s%n",
+                "mode", "callers", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (Row row : rows) {
+            ClosedLoopLoad.Result r = row.result();
+            System.out.printf("%-9s %8d %12.0f %10.1f %10.1f %10.1f %8d%n",
+                    row.mode(), r.callers(), r.throughput(), r.percentileMillis(50), r.percentileMillis(99),
+                    r.latencies().getMaxValue() / 1e6, r.failed());
+        }
+    }
+
+    private record Row(String mode, ClosedLoopLoad.Result result) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.studit.benchmarks.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Reads {@code loadtest.*} system properties, which the Gradle tasks pass
+ * through from {@code -Ploadtest.<name>=<value>}.
+ */
+final class HarnessProperties {
+
+    private HarnessProperties() {
+    }
+
+    static int intValue(String name, int defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null ? defaultValue : Integer.parseInt(value.strip());
+    }
+
+    static int[] intList(String name, int... defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Arrays.stream(value.split(",")).map(String::strip).mapToInt(Integer::parseInt).toArray();
+    }
+
+    static Duration duration(String name, Duration defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null ? defaultValue : Duration.parse("PT" + value.strip().toUpperCase());
+    }
+}
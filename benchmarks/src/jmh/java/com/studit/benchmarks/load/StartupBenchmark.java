@@ -0,0 +1,133 @@
+package com.studit.benchmarks.load;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Starts the service as a separate JVM, again and again, and measures the
+ * time from launching the process to the first successful API response
+ * ({@code GET /api/rankings}, so the dispatcher servlet and a controller
+ * are initialised too). Each launch variant adds one startup optimisation:
+ * <ul>
+ *   <li>{@code jar}: the boot jar with its nested-jar class loader</li>
+ *   <li>{@code extracted}: the extracted layout on the plain class path</li>
+ *   <li>{@code extracted+aot}: plus the bean definitions generated at build time</li>
+ *   <li>{@code extracted+aot+cds}: plus the class data sharing archive</li>
+ * </ul>
+ * <pre>
+ * ./gradlew :benchmarks:startupBenchmark
+ * ./gradlew :benchmarks:startupBenchmark -Ploadtest.runs=10
+ * </pre>
+ * Settings: {@code runs} per variant, after one discarded warm-up launch
+ * that fills the OS file cache.
+ */
+public final class StartupBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    public static void main(String[] args) throws Exception {
+        int runs = HarnessProperties.intValue("runs", 5);
+        Path bootJar = Path.of(System.getProperty("startup.bootJar"));
+        Path app = Path.of(System.getProperty("startup.app"));
+        Path extractedJar = app.resolve(bootJar.getFileName());
+        String java = ProcessHandle.current().info().command().orElseThrow();
+
+        List<Variant> variants = List.of(
+                new Variant("jar", bootJar.getParent(), List.of("-jar", bootJar.toString())),
+                new Variant("extracted", app, List.of("-jar", extractedJar.toString())),
+                new Variant("extracted+aot", app,
+                        List.of("-Dspring.aot.enabled=true", "-jar", extractedJar.toString())),
+                new Variant("extracted+aot+cds", app, List.of("-XX:SharedArchiveFile=application.jsa",
+                        "-Xshare:on", "-Dspring.aot.enabled=true", "-jar", extractedJar.toString())));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        System.out.printf("%-20s %10s %10s %10s%n", "variant", "min ms", "median ms", "max ms");
+        for (Variant variant : variants) {
+            timeToFirstRequest(java, variant, client);
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                millis[i] = timeToFirstRequest(java, variant, client);
+            }
+            Arrays.sort(millis);
+            System.out.printf("%-20s %10d %10d %10d%n", variant.name(), millis[0], millis[runs / 2],
+                    millis[runs - 1]);
+        }
+    }
+
+    private static long timeToFirstRequest(String java, Variant variant, HttpClient client) throws Exception {
+        int port = freePort();
+        Path data = Files.createTempDirectory("startup-bench");
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(variant.arguments());
+        command.addAll(List.of(
+                "--server.port=" + port,
+                "--logging.level.root=WARN",
+                "--studit.attendance.journal-directory=" + data.resolve("attendance"),
+                "--studit.attachment.directory=" + data.resolve("attachments")));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/rankings"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(variant.workingDirectory().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(data.resolve("output.log").toFile())
+                .start();
+        try {
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " exited with " + process.exitValue()
+                            + ", see " + data.resolve("output.log"));
+                }
+                if (System.nanoTime() - started > TIMEOUT.toNanos()) {
+                    throw new IllegalStateException(variant.name() + " did not answer within " + TIMEOUT);
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    }
+                } catch (ConnectException e) {
+                    // not listening yet
+                }
+                Thread.sleep(5);
+            }
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            delete(data);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private record Variant(String name, Path workingDirectory, List<String> arguments) {
+    }
+}
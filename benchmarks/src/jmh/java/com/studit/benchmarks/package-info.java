@@ -0,0 +1,13 @@
+/**
+ * JMH suites and load harnesses for STUDIT hot paths.
+ * <p>
+ * Each subsystem gets its own package of benchmark classes. Suites build
+ * their fixtures in {@code @Setup} methods, mostly from the {@code :core}
+ * engines directly with no database, network or Spring context. Suites
+ * whose baseline is the database, such as roster paging, attendance flushes
+ * and the leaderboard's SQL ranking, run against an embedded H2 through
+ * Spring JDBC. The harnesses in {@code load} are plain programs, not JMH
+ * suites: they boot the full application and drive it over HTTP and
+ * WebSocket sockets.
+ */
+package com.studit.benchmarks;
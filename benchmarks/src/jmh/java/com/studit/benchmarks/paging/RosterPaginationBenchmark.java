@@ -0,0 +1,112 @@
+package com.studit.benchmarks.paging;
+
+import com.studit.api.group.GroupMember;
+import com.studit.api.group.GroupMemberRepository;
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.PageRequest;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Page N of a 200k-member group roster on embedded H2, read through the
+ * production keyset query and, for contrast, through the equivalent OFFSET
+ * query the keyset contract replaces.
+ * <pre>
+ * ./gradlew :benchmarks:jmh -Pjmh.includes=RosterPaginationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class RosterPaginationBenchmark {
+
+    private static final long GROUP_ID = 1;
+    private static final int PAGE_SIZE = 20;
+    private static final int MEMBERS = 10_000 * PAGE_SIZE + PAGE_SIZE;
+
+    private static final String OFFSET_QUERY = """
+            SELECT gm.id, gm.member_id, m.nickname, gm.joined_at
+            FROM study_group_member gm
+            JOIN member m ON m.id = gm.member_id
+            WHERE gm.group_id = ?
+            ORDER BY gm.group_id DESC, gm.id DESC
+            LIMIT ? OFFSET ?
+            """;
+
+    @Param({"1", "100", "1000", "10000"})
+    int page;
+
+    private JdbcDataSource dataSource;
+    private GroupMemberRepository repository;
+    private JdbcTemplate jdbc;
+    private PageRequest request;
+
+    @Setup(Level.Trial)
+    public void load() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:roster;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbc.update("""
+                INSERT INTO study_group (id, title, region, meeting_days, start_time, max_members, created_at, updated_at)
+                VALUES (?, 'roster', 'online', 1, TIME '20:00:00', ?, ?, ?)
+                """, GROUP_ID, MEMBERS, now, now);
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> memberships = new ArrayList<>();
+        for (long id = 1; id <= MEMBERS; id++) {
+            members.add(new Object[] {id, "member-" + id, now});
+            memberships.add(new Object[] {GROUP_ID, id, now});
+        }
+        jdbc.batchUpdate("INSERT INTO member (id, nickname, created_at) VALUES (?, ?, ?)", members);
+        jdbc.batchUpdate("INSERT INTO study_group_member (group_id, member_id, joined_at) VALUES (?, ?, ?)",
+                memberships);
+
+        repository = new GroupMemberRepository(JdbcClient.create(dataSource));
+        request = PageRequest.first(PAGE_SIZE);
+        for (int i = 1; i < page; i++) {
+            request = new PageRequest(repository.findMembers(GROUP_ID, request).next(), PAGE_SIZE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void drop() {
+        jdbc.execute("SHUTDOWN");
+    }
+
+    @Benchmark
+    public CursorPage<GroupMember> keyset() {
+        return repository.findMembers(GROUP_ID, request);
+    }
+
+    /** Baseline only: the offset query that the keyset contract replaces. */
+    @Benchmark
+    public List<Long> offsetBaseline() {
+        return jdbc.query(OFFSET_QUERY, (rs, row) -> rs.getLong("id"),
+                GROUP_ID, PAGE_SIZE + 1, (long) (page - 1) * PAGE_SIZE);
+    }
+}
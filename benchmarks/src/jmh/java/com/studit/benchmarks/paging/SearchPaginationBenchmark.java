@@ -0,0 +1,84 @@
+package com.studit.benchmarks.paging;
+
+import com.studit.benchmarks.search.StudyGroupFixtures;
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.PageRequest;
+import com.studit.core.search.StudyGroupDocument;
+import com.studit.core.search.StudyGroupIndex;
+import com.studit.core.search.StudyGroupQuery;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of fetching page N of the study-group search through keyset cursors.
+ * Latency should stay flat from page 1 to page 10,000.
+ * <pre>
+ * ./gradlew :benchmarks:jmh -Pjmh.includes=SearchPaginationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class SearchPaginationBenchmark {
+
+    private static final int GROUPS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "100", "1000", "10000"})
+    int page;
+
+    private StudyGroupIndex index;
+    private final StudyGroupQuery browse = StudyGroupQuery.all();
+    private final StudyGroupQuery tagged = StudyGroupQuery.builder().tags(List.of("english")).build();
+    private PageRequest browseRequest;
+    private PageRequest taggedRequest;
+
+    @Setup(Level.Trial)
+    public void load() {
+        index = new StudyGroupIndex();
+        StudyGroupFixtures fixtures = new StudyGroupFixtures(42);
+        for (long id = 1; id <= GROUPS; id++) {
+            index.upsert(fixtures.next(id));
+        }
+        browseRequest = seek(browse);
+        taggedRequest = seek(tagged);
+    }
+
+    /** Walks to the requested page so the benchmark only measures that page. */
+    private PageRequest seek(StudyGroupQuery query) {
+        PageRequest request = PageRequest.first(PAGE_SIZE);
+        for (int i = 1; i < page; i++) {
+            CursorPage<StudyGroupDocument> result = index.search(query, request);
+            if (!result.hasNext()) {
+                throw new IllegalStateException("query has fewer than " + page + " pages");
+            }
+            request = new PageRequest(result.next(), PAGE_SIZE);
+        }
+        return request;
+    }
+
+    @Benchmark
+    public CursorPage<StudyGroupDocument> browse() {
+        return index.search(browse, browseRequest);
+    }
+
+    @Benchmark
+    public CursorPage<StudyGroupDocument> taggedBrowse() {
+        return index.search(tagged, taggedRequest);
+    }
+}
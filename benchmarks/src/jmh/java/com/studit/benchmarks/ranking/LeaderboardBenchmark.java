@@ -0,0 +1,154 @@
+package com.studit.benchmarks.ranking;
+
+import com.studit.core.paging.Cursor;
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.PageRequest;
+import com.studit.core.ranking.Leaderboard;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Leaderboard operations as the board grows: crediting study time, "my
+ * rank", the top ten and a page from the middle of the board. The
+ * {@code Baseline} methods answer the same questions the way the leaderboard
+ * replaces, by aggregating and ordering {@code study_session} rows in
+ * embedded H2; they only load the database when selected.
+ * <p>
+ * Scores are heavy-tailed like real study time, so many members share
+ * small totals and ties are exercised.
+ * <pre>
+ * ./gradlew :benchmarks:jmh -Pjmh.includes=LeaderboardBenchmark
+ * ./gradlew :benchmarks:jmh -Pjmh.includes='LeaderboardBenchmark.(credit|myRank)$'
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class LeaderboardBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    int members;
+
+    private final SplittableRandom random = new SplittableRandom(7);
+    private Leaderboard board;
+    private long[] initialScores;
+    private PageRequest middlePage;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        board = new Leaderboard();
+        initialScores = new long[members + 1];
+        SplittableRandom scores = new SplittableRandom(42);
+        for (int memberId = 1; memberId <= members; memberId++) {
+            // Minutes studied, exponential with a mean of two hours.
+            long millis = (long) (-Math.log(1 - scores.nextDouble()) * 120) * 60_000;
+            initialScores[memberId] = millis;
+            board.set(memberId, millis);
+        }
+        Leaderboard.Entry middle = board.top(members / 2).get(members / 2 - 1);
+        middlePage = new PageRequest(Cursor.of(middle.score(), middle.memberId()), PAGE_SIZE);
+    }
+
+    /** One flush delta: a few minutes for a random member. */
+    @Benchmark
+    public long credit() {
+        return board.add(1 + random.nextInt(members), 60_000L * (1 + random.nextInt(5)));
+    }
+
+    @Benchmark
+    public Optional<Leaderboard.Entry> myRank() {
+        return board.entry(1 + random.nextInt(members));
+    }
+
+    @Benchmark
+    public List<Leaderboard.Entry> top10() {
+        return board.top(10);
+    }
+
+    @Benchmark
+    public CursorPage<Leaderboard.Entry> middlePage() {
+        return board.page(middlePage);
+    }
+
+    @Benchmark
+    public Long myRankBaseline(Sql sql) {
+        long memberId = 1 + random.nextInt(members);
+        return sql.jdbc.queryForObject("""
+                SELECT COUNT(*) + 1 FROM (
+                    SELECT member_id, SUM(studied_millis) AS total FROM study_session GROUP BY member_id
+                ) t
+                WHERE t.total > ? OR (t.total = ? AND t.member_id < ?)
+                """, Long.class, initialScores[(int) memberId], initialScores[(int) memberId], memberId);
+    }
+
+    @Benchmark
+    public List<Long> top10Baseline(Sql sql) {
+        return sql.jdbc.queryForList("""
+                SELECT member_id FROM study_session
+                GROUP BY member_id
+                ORDER BY SUM(studied_millis) DESC, member_id
+                LIMIT 10
+                """, Long.class);
+    }
+
+    /**
+     * One ended session per member, carrying the same totals as the board.
+     */
+    @State(Scope.Benchmark)
+    public static class Sql {
+
+        JdbcTemplate jdbc;
+
+        @Setup(Level.Trial)
+        public void load(LeaderboardBenchmark benchmark) {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:leaderboard;DB_CLOSE_DELAY=-1");
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+            jdbc = new JdbcTemplate(dataSource);
+            Timestamp startedAt = Timestamp.from(Instant.parse("2026-01-05T20:00:00Z"));
+            List<Object[]> rows = new ArrayList<>(10_000);
+            for (int memberId = 1; memberId <= benchmark.members; memberId++) {
+                rows.add(new Object[] {memberId, startedAt, startedAt, benchmark.initialScores[memberId], startedAt});
+                if (rows.size() == 10_000 || memberId == benchmark.members) {
+                    jdbc.batchUpdate("""
+                            INSERT INTO study_session (member_id, started_at, group_id, last_seen_at, studied_millis, ended_at)
+                            VALUES (?, ?, 1, ?, ?, ?)
+                            """, rows);
+                    rows.clear();
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void drop() {
+            jdbc.execute("SHUTDOWN");
+        }
+    }
+}
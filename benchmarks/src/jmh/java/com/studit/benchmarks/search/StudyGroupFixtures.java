@@ -0,0 +1,61 @@
+package com.studit.benchmarks.search;
+
+import com.studit.core.search.StudyGroupDocument;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic study groups with a skewed vocabulary, roughly
+ * shaped like production: a few very popular subjects and regions, a long
+ * tail of rare title words.
+ */
+public final class StudyGroupFixtures {
+
+    static final String[] SUBJECTS = {
+            "토익", "토플", "영어회화", "코딩테스트", "알고리즘", "자바", "스프링", "리액트", "정보처리기사",
+            "공무원", "한국사", "회계", "cpa", "jlpt", "일본어", "중국어", "hsk", "데이터분석", "sql",
+            "python", "java", "spring", "react", "kotlin", "aws", "docker", "kubernetes", "ielts", "gre"};
+    static final String[] WORDS = {
+            "스터디", "study", "모임", "같이", "매일", "주말", "아침", "저녁", "초보", "중급", "고급",
+            "인증", "목표", "합격", "집중", "온라인", "오프라인", "group", "daily", "club"};
+    static final String[] TAGS = {
+            "english", "toeic", "coding", "algorithm", "backend", "frontend", "certificate", "language",
+            "exam", "career", "morning", "night", "online", "offline", "beginner", "advanced",
+            "interview", "reading", "writing", "speaking", "math", "science", "finance", "design"};
+    static final String[] REGIONS = {
+            "seoul-gangnam", "seoul-mapo", "seoul-jongno", "seoul-gwanak", "seoul-songpa", "busan-haeundae",
+            "busan-jin", "incheon-namdong", "daegu-jung", "daejeon-yuseong", "gwangju-buk", "suwon-paldal",
+            "seongnam-bundang", "goyang-ilsan", "online"};
+
+    private final SplittableRandom random;
+
+    public StudyGroupFixtures(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public StudyGroupDocument next(long groupId) {
+        String title = skewed(SUBJECTS) + " " + WORDS[random.nextInt(WORDS.length)] + " " + (groupId % 997) + "기";
+        Set<String> tags = new HashSet<>();
+        int tagCount = 1 + random.nextInt(3);
+        while (tags.size() < tagCount) {
+            tags.add(skewed(TAGS));
+        }
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        int dayCount = 1 + random.nextInt(3);
+        while (days.size() < dayCount) {
+            days.add(DayOfWeek.of(1 + random.nextInt(7)));
+        }
+        LocalTime start = LocalTime.of(random.nextInt(24), random.nextBoolean() ? 0 : 30);
+        return new StudyGroupDocument(groupId, title, tags, skewed(REGIONS), days, start);
+    }
+
+    /** Picks low indexes more often than high ones (roughly Zipf-like). */
+    private String skewed(String[] values) {
+        double u = random.nextDouble();
+        return values[(int) (values.length * u * u)];
+    }
+}
@@ -0,0 +1,105 @@
+package com.studit.benchmarks.search;
+
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.PageRequest;
+import com.studit.core.search.StudyGroupDocument;
+import com.studit.core.search.StudyGroupIndex;
+import com.studit.core.search.StudyGroupQuery;
+import com.studit.core.search.TimeBand;
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of the study-group discovery queries against an index of 100k and
+ * 1M groups.
+ * <pre>
+ * ./gradlew :benchmarks:jmh -Pjmh.includes=StudyGroupSearchBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class StudyGroupSearchBenchmark {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.first(20);
+
+    @Param({"100000", "1000000"})
+    int groups;
+
+    private StudyGroupIndex index;
+    private StudyGroupFixtures fixtures;
+    private SplittableRandom random;
+
+    private final StudyGroupQuery browse = StudyGroupQuery.all();
+    private final StudyGroupQuery text = StudyGroupQuery.builder().text("토익 스터디").build();
+    private final StudyGroupQuery prefix = StudyGroupQuery.builder().text("코딩").build();
+    private final StudyGroupQuery filtered = StudyGroupQuery.builder()
+            .tags(List.of("coding", "algorithm"))
+            .region("seoul-gangnam")
+            .days(List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY))
+            .build();
+    private final StudyGroupQuery selective = StudyGroupQuery.builder()
+            .text("kubernetes")
+            .region("daejeon-yuseong")
+            .timeBands(List.of(TimeBand.MORNING))
+            .build();
+
+    @Setup(Level.Trial)
+    public void load() {
+        index = new StudyGroupIndex();
+        fixtures = new StudyGroupFixtures(42);
+        for (long id = 1; id <= groups; id++) {
+            index.upsert(fixtures.next(id));
+        }
+        random = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    public CursorPage<StudyGroupDocument> browseFirstPage() {
+        return index.search(browse, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public CursorPage<StudyGroupDocument> textQuery() {
+        return index.search(text, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public CursorPage<StudyGroupDocument> prefixQuery() {
+        return index.search(prefix, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public CursorPage<StudyGroupDocument> filteredQuery() {
+        return index.search(filtered, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public CursorPage<StudyGroupDocument> selectiveQuery() {
+        return index.search(selective, FIRST_PAGE);
+    }
+
+    /** Re-indexes a random existing group, as an update event would. */
+    @Benchmark
+    public void update() {
+        long id = 1 + random.nextInt(groups);
+        index.upsert(fixtures.next(id));
+    }
+}
@@ -0,0 +1,121 @@
+package com.studit.benchmarks.storage;
+
+import com.studit.core.storage.LocalFileObjectStorage;
+import com.studit.core.storage.ObjectContent;
+import com.studit.core.storage.ObjectStorage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serving an attachment to a socket: {@code transferTo} is the download
+ * path outside Tomcat's {@code sendfile}, where the kernel moves pages from
+ * the file cache to the socket; {@code heapCopyBaseline} reads through a
+ * 64 KiB heap buffer the way a stream copy does. The receiving end is a
+ * loopback socket drained by another thread, so both include the same
+ * network stack cost. Run with {@code -prof gc} to see the allocation gap.
+ * <pre>
+ * ./gradlew :benchmarks:jmh -Pjmh.includes=AttachmentTransferBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttachmentTransferBenchmark {
+
+    private static final String KEY = "groups/1/attachment";
+
+    @Param({"65536", "1048576", "16777216"})
+    int size;
+
+    private Path directory;
+    private ObjectStorage storage;
+    private ServerSocketChannel server;
+    private SocketChannel client;
+    private Thread drain;
+    private final byte[] buffer = new byte[64 * 1024];
+
+    @Setup(Level.Trial)
+    public void open() throws IOException {
+        directory = Files.createTempDirectory("attachment-bench");
+        storage = new LocalFileObjectStorage(directory);
+        byte[] content = new byte[size];
+        new SplittableRandom(1).nextBytes(content);
+        storage.put(KEY, new ByteArrayInputStream(content), size);
+
+        server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel receiver = server.accept();
+        drain = Thread.ofPlatform().daemon(true).start(() -> {
+            ByteBuffer sink = ByteBuffer.allocateDirect(1 << 20);
+            try (receiver) {
+                while (receiver.read(sink.clear()) >= 0) {
+                    // discard
+                }
+            } catch (IOException e) {
+                // closed by tear-down
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException, InterruptedException {
+        client.close();
+        drain.join();
+        server.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long transferTo() throws IOException {
+        try (ObjectContent content = storage.open(KEY).orElseThrow()) {
+            content.transferTo(0, size, client);
+            return content.size();
+        }
+    }
+
+    @Benchmark
+    public long heapCopyBaseline() throws IOException {
+        try (ObjectContent content = storage.open(KEY).orElseThrow();
+             InputStream in = Files.newInputStream(content.file().orElseThrow())) {
+            OutputStream out = Channels.newOutputStream(client);
+            long copied = 0;
+            for (int n; (n = in.read(buffer)) != -1; ) {
+                out.write(buffer, 0, n);
+                copied += n;
+            }
+            return copied;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.studit.core.attendance;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of attendance events, split into numbered segments.
+ * <p>
+ * Every event is written straight to the segment's file channel before it is
+ * applied in memory, so it survives a crash of the process. Records are
+ * forced to the storage device only on {@link #rotate} and {@link #close};
+ * a crash of the machine can lose the events since the last flush, never
+ * the snapshots that older segments were deleted in favour of. Records have
+ * a fixed size and end in a CRC32C; replay stops at the first short or
+ * corrupt record, which can only be the torn tail of the last write.
+ * <p>
+ * {@link #rotate} starts a new segment headed by snapshots of the sessions
+ * that are still open. Once everything up to that point is durable in the
+ * database, {@link #deleteBefore} drops the older segments, so replay
+ * only ever reads the events since the last successful flush.
+ */
+public final class AttendanceJournal implements Closeable {
+
+    static final byte CHECK_IN = 1;
+    static final byte HEARTBEAT = 2;
+    static final byte CHECK_OUT = 3;
+    static final byte SNAPSHOT = 4;
+
+    /** type, memberId, groupId, startedAt, at, studiedMillis, crc */
+    static final int RECORD_SIZE = 1 + 5 * Long.BYTES + Integer.BYTES;
+
+    private static final String PREFIX = "attendance-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_SIZE);
+    private final CRC32C crc = new CRC32C();
+    private FileChannel channel;
+    private long segment;
+
+    public AttendanceJournal(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            List<Long> existing = segments();
+            segment = existing.isEmpty() ? 1 : existing.get(existing.size() - 1) + 1;
+            channel = open(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot open attendance journal in " + directory, e);
+        }
+    }
+
+    void append(byte type, long memberId, long groupId, long startedAt, long at, long studiedMillis) {
+        lock.lock();
+        try {
+            write(channel, type, memberId, groupId, startedAt, at, studiedMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot append to attendance journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the current segment and starts the next one with a snapshot
+     * record per open session. Both are forced to the device before this
+     * returns, so the older segments may be deleted afterwards.
+     *
+     * @return number of the new segment
+     */
+    long rotate(Collection<SessionSnapshot> openSessions) {
+        lock.lock();
+        try {
+            channel.force(false);
+            channel.close();
+            FileChannel next = open(++segment);
+            for (SessionSnapshot s : openSessions) {
+                write(next, SNAPSHOT, s.memberId(), s.groupId(), s.startedAt(), s.lastSeenAt(), s.studiedMillis());
+            }
+            next.force(false);
+            channel = next;
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot rotate attendance journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes every segment numbered below {@code segment}.
+     */
+    void deleteBefore(long segment) {
+        try {
+            for (long number : segments()) {
+                if (number < segment) {
+                    Files.deleteIfExists(path(number));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot prune attendance journal", e);
+        }
+    }
+
+    /**
+     * Feeds every intact record of every segment, oldest first, to
+     * {@code visitor}. Must run before any new events are appended.
+     */
+    void replay(RecordVisitor visitor) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        CRC32C check = new CRC32C();
+        try {
+            for (long number : segments()) {
+                try (FileChannel in = FileChannel.open(path(number), StandardOpenOption.READ)) {
+                    while (true) {
+                        record.clear();
+                        while (record.hasRemaining() && in.read(record) >= 0) {
+                            // keep reading until the record is complete or the file ends
+                        }
+                        if (record.hasRemaining()) {
+                            break;
+                        }
+                        check.reset();
+                        check.update(record.array(), 0, RECORD_SIZE - Integer.BYTES);
+                        record.flip();
+                        if ((int) check.getValue() != record.getInt(RECORD_SIZE - Integer.BYTES)) {
+                            break;
+                        }
+                        visitor.visit(record.get(), record.getLong(), record.getLong(), record.getLong(),
+                                record.getLong(), record.getLong());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot replay attendance journal", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot close attendance journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(FileChannel target, byte type, long memberId, long groupId, long startedAt, long at,
+                       long studiedMillis) throws IOException {
+        buffer.clear();
+        buffer.put(type).putLong(memberId).putLong(groupId).putLong(startedAt).putLong(at).putLong(studiedMillis);
+        buffer.flip();
+        crc.reset();
+        crc.update(buffer);
+        buffer.limit(RECORD_SIZE).putInt(RECORD_SIZE - Integer.BYTES, (int) crc.getValue());
+        buffer.position(0);
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private FileChannel open(long number) throws IOException {
+        return FileChannel.open(path(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private Path path(long number) {
+        return directory.resolve(PREFIX + String.format("%016d", number) + SUFFIX);
+    }
+
+    private List<Long> segments() throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())))
+                    .sorted()
+                    .forEach(numbers::add);
+        }
+        return numbers;
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+
+        void visit(byte type, long memberId, long groupId, long startedAt, long at, long studiedMillis);
+    }
+}
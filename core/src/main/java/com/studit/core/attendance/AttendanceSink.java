@@ -0,0 +1,17 @@
+package com.studit.core.attendance;
+
+import java.util.List;
+
+/**
+ * Durable store for session state, written in batches by
+ * {@link AttendanceTracker#flush}.
+ * <p>
+ * Snapshots carry absolute values, and a session may be written again after
+ * a failed flush or a crash replay, so implementations must upsert by
+ * {@code (memberId, startedAt)}.
+ */
+@FunctionalInterface
+public interface AttendanceSink {
+
+    void write(List<SessionSnapshot> sessions) throws Exception;
+}
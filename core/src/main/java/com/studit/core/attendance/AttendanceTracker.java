@@ -0,0 +1,325 @@
+package com.studit.core.attendance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind aggregator for study timers.
+ * <p>
+ * Check-ins, heartbeats and check-outs update one in-memory session per
+ * member after being appended to the {@link AttendanceJournal}. Nothing
+ * touches the database on that path: {@link #flush} periodically hands the
+ * sessions that changed since the previous flush to the
+ * {@link AttendanceSink} as one batch. However many heartbeats a session
+ * received in between, it costs one row per flush.
+ * <p>
+ * Study time accrues between consecutive heartbeats that are at most
+ * {@code maxGap} apart, so a dropped connection does not count as studying.
+ * Sessions that have not sent a heartbeat for {@code idleTimeout} are closed
+ * at their last heartbeat on the next flush.
+ * <p>
+ * Events for one member are serialised on a lock stripe so the journal and
+ * memory always agree on their order. Flushes take an exclusive lock only
+ * long enough to copy the changed sessions and rotate the journal. Every
+ * lock is a {@link ReentrantLock} rather than a monitor, because the
+ * journal write and the sink call happen while one is held and a virtual
+ * thread blocked inside {@code synchronized} would pin its carrier.
+ */
+public final class AttendanceTracker {
+
+    private static final int STRIPES = 64;
+
+    private final AttendanceJournal journal;
+    private final AttendanceSink sink;
+    private final long maxGapMillis;
+    private final long idleTimeoutMillis;
+    private final Map<Long, MemberSession> open = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<SessionSnapshot> closed = new ConcurrentLinkedQueue<>();
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    /** Serialises flushes, which call the sink outside {@link #flushLock}. */
+    private final ReentrantLock flushing = new ReentrantLock();
+
+    public AttendanceTracker(AttendanceJournal journal, AttendanceSink sink, Duration maxGap, Duration idleTimeout) {
+        this.journal = journal;
+        this.sink = sink;
+        this.maxGapMillis = maxGap.toMillis();
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Replays the journal left by the previous run and flushes the recovered
+     * sessions. Call once, before accepting any events.
+     *
+     * @return number of sessions recovered
+     */
+    public int recover(long now) throws Exception {
+        journal.replay((type, memberId, groupId, startedAt, at, studiedMillis) -> {
+            switch (type) {
+                case AttendanceJournal.CHECK_IN -> applyCheckIn(memberId, groupId, at);
+                case AttendanceJournal.HEARTBEAT -> applyHeartbeat(memberId, startedAt, at);
+                case AttendanceJournal.CHECK_OUT -> applyCheckOut(memberId, startedAt, at);
+                case AttendanceJournal.SNAPSHOT -> applySnapshot(memberId, groupId, startedAt, at, studiedMillis);
+                default -> throw new IllegalStateException("unknown journal record type " + type);
+            }
+        });
+        int recovered = open.size() + closed.size();
+        open.values().forEach(session -> session.dirty = true);
+        flush(now);
+        return recovered;
+    }
+
+    /**
+     * Starts a session in {@code groupId}, closing any session the member
+     * still has open elsewhere.
+     */
+    public SessionSnapshot checkIn(long memberId, long groupId, long now) {
+        flushLock.readLock().lock();
+        try {
+            ReentrantLock stripe = stripe(memberId);
+            stripe.lock();
+            try {
+                journal.append(AttendanceJournal.CHECK_IN, memberId, groupId, now, now, 0);
+                return applyCheckIn(memberId, groupId, now).snapshot();
+            } finally {
+                stripe.unlock();
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records that the member is still studying.
+     *
+     * @return {@code false} if the member has no open session
+     */
+    public boolean heartbeat(long memberId, long now) {
+        flushLock.readLock().lock();
+        try {
+            ReentrantLock stripe = stripe(memberId);
+            stripe.lock();
+            try {
+                MemberSession session = open.get(memberId);
+                if (session == null) {
+                    return false;
+                }
+                journal.append(AttendanceJournal.HEARTBEAT, memberId, session.groupId, session.startedAt, now, 0);
+                session.touch(now, maxGapMillis);
+                return true;
+            } finally {
+                stripe.unlock();
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ends the member's open session.
+     */
+    public Optional<SessionSnapshot> checkOut(long memberId, long now) {
+        flushLock.readLock().lock();
+        try {
+            ReentrantLock stripe = stripe(memberId);
+            stripe.lock();
+            try {
+                MemberSession session = open.get(memberId);
+                if (session == null) {
+                    return Optional.empty();
+                }
+                journal.append(AttendanceJournal.CHECK_OUT, memberId, session.groupId, session.startedAt, now, 0);
+                return Optional.ofNullable(applyCheckOut(memberId, session.startedAt, now));
+            } finally {
+                stripe.unlock();
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    public Optional<SessionSnapshot> current(long memberId) {
+        MemberSession session = open.get(memberId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        ReentrantLock stripe = stripe(memberId);
+        stripe.lock();
+        try {
+            return Optional.of(session.snapshot());
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int openSessions() {
+        return open.size();
+    }
+
+    /**
+     * Closes idle sessions and writes every session that changed since the
+     * previous flush to the sink in one batch. If the sink fails, the batch
+     * is kept and retried on the next flush, and the journal still holds
+     * everything needed to rebuild it after a crash.
+     *
+     * @return number of sessions written
+     */
+    public int flush(long now) throws Exception {
+        flushing.lock();
+        try {
+            return flushBatch(now);
+        } finally {
+            flushing.unlock();
+        }
+    }
+
+    private int flushBatch(long now) throws Exception {
+        List<SessionSnapshot> batch = new ArrayList<>();
+        List<SessionSnapshot> stillOpen = new ArrayList<>();
+        long segment;
+        flushLock.writeLock().lock();
+        try {
+            for (SessionSnapshot done; (done = closed.poll()) != null; ) {
+                batch.add(done);
+            }
+            for (Iterator<MemberSession> it = open.values().iterator(); it.hasNext(); ) {
+                MemberSession session = it.next();
+                if (now - session.lastSeenAt > idleTimeoutMillis) {
+                    session.endedAt = session.lastSeenAt;
+                    session.dirty = true;
+                    it.remove();
+                } else {
+                    stillOpen.add(session.snapshot());
+                }
+                if (session.dirty) {
+                    batch.add(session.snapshot());
+                    session.dirty = false;
+                }
+            }
+            segment = journal.rotate(stillOpen);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+        if (batch.isEmpty()) {
+            journal.deleteBefore(segment);
+            return 0;
+        }
+        try {
+            sink.write(batch);
+        } catch (Exception e) {
+            retryLater(batch);
+            throw e;
+        }
+        journal.deleteBefore(segment);
+        return batch.size();
+    }
+
+    private void retryLater(Collection<SessionSnapshot> batch) {
+        for (SessionSnapshot snapshot : batch) {
+            MemberSession session = open.get(snapshot.memberId());
+            if (session != null && session.startedAt == snapshot.startedAt()) {
+                session.dirty = true;
+            } else if (!snapshot.isOpen()) {
+                closed.add(snapshot);
+            }
+        }
+    }
+
+    private MemberSession applyCheckIn(long memberId, long groupId, long at) {
+        closePrevious(memberId, at);
+        MemberSession session = new MemberSession(memberId, groupId, at, at, 0);
+        session.dirty = true;
+        open.put(memberId, session);
+        return session;
+    }
+
+    private void applySnapshot(long memberId, long groupId, long startedAt, long lastSeenAt, long studiedMillis) {
+        closePrevious(memberId, startedAt);
+        open.put(memberId, new MemberSession(memberId, groupId, startedAt, lastSeenAt, studiedMillis));
+    }
+
+    /**
+     * Ends a session the member left open, unless it is the one starting at
+     * {@code startedAt}.
+     */
+    private void closePrevious(long memberId, long startedAt) {
+        MemberSession previous = open.get(memberId);
+        if (previous != null && previous.startedAt != startedAt) {
+            previous.endedAt = previous.lastSeenAt;
+            open.remove(memberId);
+            closed.add(previous.snapshot());
+        }
+    }
+
+    private void applyHeartbeat(long memberId, long startedAt, long at) {
+        MemberSession session = open.get(memberId);
+        if (session != null && session.startedAt == startedAt) {
+            session.touch(at, maxGapMillis);
+        }
+    }
+
+    private SessionSnapshot applyCheckOut(long memberId, long startedAt, long at) {
+        MemberSession session = open.get(memberId);
+        if (session == null || session.startedAt != startedAt) {
+            return null;
+        }
+        session.touch(at, maxGapMillis);
+        session.endedAt = session.lastSeenAt;
+        open.remove(memberId);
+        SessionSnapshot snapshot = session.snapshot();
+        closed.add(snapshot);
+        return snapshot;
+    }
+
+    private ReentrantLock stripe(long memberId) {
+        return stripes[(int) (memberId ^ (memberId >>> 32)) & (STRIPES - 1)];
+    }
+
+    private static final class MemberSession {
+
+        final long memberId;
+        final long groupId;
+        final long startedAt;
+        long lastSeenAt;
+        long studiedMillis;
+        long endedAt;
+        volatile boolean dirty;
+
+        MemberSession(long memberId, long groupId, long startedAt, long lastSeenAt, long studiedMillis) {
+            this.memberId = memberId;
+            this.groupId = groupId;
+            this.startedAt = startedAt;
+            this.lastSeenAt = lastSeenAt;
+            this.studiedMillis = studiedMillis;
+        }
+
+        void touch(long at, long maxGapMillis) {
+            long gap = at - lastSeenAt;
+            if (gap <= 0) {
+                return;
+            }
+            if (gap <= maxGapMillis) {
+                studiedMillis += gap;
+            }
+            lastSeenAt = at;
+            dirty = true;
+        }
+
+        SessionSnapshot snapshot() {
+            return new SessionSnapshot(memberId, groupId, startedAt, lastSeenAt, studiedMillis, endedAt);
+        }
+    }
+}
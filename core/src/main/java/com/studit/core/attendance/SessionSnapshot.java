@@ -0,0 +1,19 @@
+package com.studit.core.attendance;
+
+/**
+ * Point-in-time copy of one study session. All times are epoch millis.
+ *
+ * @param endedAt {@code 0} while the session is still open
+ */
+public record SessionSnapshot(
+        long memberId,
+        long groupId,
+        long startedAt,
+        long lastSeenAt,
+        long studiedMillis,
+        long endedAt) {
+
+    public boolean isOpen() {
+        return endedAt == 0;
+    }
+}
@@ -0,0 +1,67 @@
+package com.studit.core.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link SharedCache} held in this JVM. Stands in for the real shared tier
+ * when running one instance or testing invalidation across several caches
+ * in one process: invalidations reach every subscriber synchronously, the
+ * way a pub/sub channel would deliver them to other instances. Values are
+ * stored by reference and must be immutable. Expired entries are dropped on
+ * access; there is no size bound.
+ */
+public final class InMemorySharedCache implements SharedCache {
+
+    private final Map<EntryKey, Entry> entries = new ConcurrentHashMap<>();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        EntryKey entryKey = new EntryKey(cacheName, key);
+        Entry entry = entries.get(entryKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt - System.nanoTime() <= 0) {
+            entries.remove(entryKey, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, Duration ttl) {
+        entries.put(new EntryKey(cacheName, key), new Entry(value, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        entries.remove(new EntryKey(cacheName, key));
+        listeners.forEach(listener -> listener.invalidated(cacheName, key));
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        entries.keySet().removeIf(key -> key.cacheName.equals(cacheName));
+        listeners.forEach(listener -> listener.invalidated(cacheName, null));
+    }
+
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record EntryKey(String cacheName, Object key) {
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
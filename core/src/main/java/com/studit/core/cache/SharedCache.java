@@ -0,0 +1,42 @@
+package com.studit.core.cache;
+
+import java.time.Duration;
+
+/**
+ * Second cache tier shared by every instance of the service, such as a
+ * Redis or Memcached cluster. Implementations own serialisation of values.
+ * <p>
+ * Evictions are also published to every subscribed instance, so each can
+ * drop its local copy of an entry that another instance invalidated.
+ */
+public interface SharedCache {
+
+    /**
+     * @return the cached value, or {@code null} on a miss
+     */
+    Object get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value, Duration ttl);
+
+    /**
+     * Removes the entry and notifies every {@link InvalidationListener}.
+     */
+    void evict(String cacheName, Object key);
+
+    /**
+     * Removes every entry of the cache and notifies every
+     * {@link InvalidationListener} with a {@code null} key.
+     */
+    void clear(String cacheName);
+
+    void subscribe(InvalidationListener listener);
+
+    @FunctionalInterface
+    interface InvalidationListener {
+
+        /**
+         * @param key the evicted key, or {@code null} if the whole cache was cleared
+         */
+        void invalidated(String cacheName, Object key);
+    }
+}
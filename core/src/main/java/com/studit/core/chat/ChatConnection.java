@@ -0,0 +1,32 @@
+package com.studit.core.chat;
+
+import java.io.IOException;
+
+/**
+ * Transport-side view of one connected client. {@link ChatHub} guarantees
+ * that {@link #send}, {@link #dropped} and {@link #close} are never called
+ * concurrently for the same connection, so implementations need not be
+ * thread-safe.
+ *
+ * @param <F> pre-encoded frame type, shared by every recipient of a broadcast
+ */
+public interface ChatConnection<F> {
+
+    /**
+     * Writes one frame, blocking until the transport has accepted it. Only
+     * the connection's own drain task ever blocks here.
+     */
+    void send(F frame) throws IOException;
+
+    /**
+     * Tells the client that {@code count} frames were discarded because it
+     * was not reading fast enough. Called before the next frame is sent.
+     */
+    void dropped(long count) throws IOException;
+
+    /**
+     * Closes the transport. Called once, after the last write, when the
+     * connection leaves its room.
+     */
+    void close();
+}
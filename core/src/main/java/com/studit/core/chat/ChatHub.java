@@ -0,0 +1,149 @@
+package com.studit.core.chat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-room broadcast for group chat.
+ * <p>
+ * Each joined connection gets an {@link OutboundBuffer}. A broadcast encodes
+ * its frame once and offers the same instance to every buffer in the room,
+ * which is a lock-and-copy per recipient and never waits on a socket. Rooms
+ * keep their members in a copy-on-write list: joins and leaves are rare next
+ * to broadcasts, and iteration is then a plain array walk.
+ *
+ * @param <F> pre-encoded frame type
+ */
+public final class ChatHub<F> {
+
+    private final Map<Long, List<OutboundBuffer<F>>> rooms = new ConcurrentHashMap<>();
+    private final Executor drainExecutor;
+    private final int bufferCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Counters counters = new Counters();
+
+    /**
+     * @param drainExecutor  runs the per-connection drain tasks; those block
+     *                       on slow sockets, so virtual threads fit well
+     * @param bufferCapacity frames queued per connection before overflow
+     */
+    public ChatHub(Executor drainExecutor, int bufferCapacity, OverflowPolicy overflowPolicy) {
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("buffer capacity must be positive: " + bufferCapacity);
+        }
+        this.drainExecutor = drainExecutor;
+        this.bufferCapacity = bufferCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Adds the connection to the room. Adding happens inside the same map
+     * update that drops a room when its last connection leaves, so a join
+     * never lands in a room that was just discarded.
+     */
+    public void join(long roomId, ChatConnection<F> connection) {
+        OutboundBuffer<F> buffer = new OutboundBuffer<>(connection, bufferCapacity, overflowPolicy, drainExecutor,
+                counters, () -> leave(roomId, connection));
+        rooms.compute(roomId, (id, room) -> {
+            List<OutboundBuffer<F>> members = room != null ? room : new CopyOnWriteArrayList<>();
+            members.add(buffer);
+            return members;
+        });
+    }
+
+    /**
+     * Removes the connection from the room and closes it from its drain
+     * task, or right away when nothing is being written to it. Safe to call
+     * more than once and from any thread.
+     */
+    public void leave(long roomId, ChatConnection<F> connection) {
+        List<OutboundBuffer<F>> left = new ArrayList<>(1);
+        rooms.computeIfPresent(roomId, (id, room) -> {
+            for (OutboundBuffer<F> buffer : room) {
+                if (buffer.connection() == connection) {
+                    room.remove(buffer);
+                    left.add(buffer);
+                    break;
+                }
+            }
+            return room.isEmpty() ? null : room;
+        });
+        // Closing may write to the socket, so it stays outside the map update.
+        for (OutboundBuffer<F> buffer : left) {
+            buffer.close();
+        }
+    }
+
+    /**
+     * The connections in the room right now, for closing those that lost
+     * access to it.
+     */
+    public List<ChatConnection<F>> connections(long roomId) {
+        List<OutboundBuffer<F>> room = rooms.get(roomId);
+        if (room == null) {
+            return List.of();
+        }
+        List<ChatConnection<F>> connections = new ArrayList<>(room.size());
+        for (OutboundBuffer<F> buffer : room) {
+            connections.add(buffer.connection());
+        }
+        return connections;
+    }
+
+    /**
+     * Queues {@code frame} for every connection in the room.
+     *
+     * @param coalesceKey non-zero to let this frame replace a still-queued
+     *                    frame with the same key, {@code 0} for ordinary messages
+     * @return number of recipients
+     */
+    public int broadcast(long roomId, F frame, long coalesceKey) {
+        List<OutboundBuffer<F>> room = rooms.get(roomId);
+        if (room == null) {
+            return 0;
+        }
+        int recipients = 0;
+        for (OutboundBuffer<F> buffer : room) {
+            buffer.offer(frame, coalesceKey);
+            recipients++;
+        }
+        counters.broadcasts.increment();
+        return recipients;
+    }
+
+    public Stats stats() {
+        int connections = 0;
+        long queued = 0;
+        for (List<OutboundBuffer<F>> room : rooms.values()) {
+            for (OutboundBuffer<F> buffer : room) {
+                connections++;
+                queued += buffer.depth();
+            }
+        }
+        return new Stats(rooms.size(), connections, queued, counters.broadcasts.sum(), counters.sent.sum(),
+                counters.dropped.sum(), counters.coalesced.sum());
+    }
+
+    /**
+     * @param queuedFrames frames waiting in outbound buffers right now
+     * @param sentFrames   frames written to clients since start
+     * @param droppedFrames frames discarded on overflow since start
+     * @param coalescedFrames frames that replaced a queued frame since start
+     */
+    public record Stats(int rooms, int connections, long queuedFrames, long broadcasts, long sentFrames,
+                        long droppedFrames, long coalescedFrames) {
+    }
+
+    static final class Counters {
+
+        final LongAdder broadcasts = new LongAdder();
+        final LongAdder sent = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final LongAdder coalesced = new LongAdder();
+    }
+}
@@ -0,0 +1,197 @@
+package com.studit.core.chat;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded per-connection send queue.
+ * <p>
+ * Broadcasters only ever {@link #offer} into a fixed ring of slots; they
+ * never block on the socket and never allocate. The first offer into an
+ * idle buffer schedules a drain task on the executor, which writes frames
+ * until the ring is empty. A slow client therefore only holds up its own
+ * drain task, while its ring overflows according to the
+ * {@link OverflowPolicy}.
+ * <p>
+ * Frames offered with a non-zero coalesce key replace a queued frame with
+ * the same key instead of taking a new slot, so state-like traffic (typing
+ * indicators, presence) never piles up behind a slow reader.
+ * <p>
+ * Closing the connection is a write too: if a drain task is running it
+ * closes the connection once its current batch is out, otherwise the
+ * closing thread does, so {@link ChatConnection#close} never overlaps a
+ * send.
+ */
+final class OutboundBuffer<F> implements Runnable {
+
+    /** Frames written per drain pass before the lock is retaken. */
+    private static final int DRAIN_BATCH = 32;
+
+    private final ChatConnection<F> connection;
+    private final Executor executor;
+    private final OverflowPolicy policy;
+    private final ChatHub.Counters counters;
+    private final Runnable onFailure;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Object[] frames;
+    private final long[] keys;
+    private final Object[] batch = new Object[DRAIN_BATCH];
+    private int head;
+    private int size;
+    private long droppedSinceDrain;
+    private boolean draining;
+    private boolean closed;
+
+    OutboundBuffer(ChatConnection<F> connection, int capacity, OverflowPolicy policy, Executor executor,
+                   ChatHub.Counters counters, Runnable onFailure) {
+        this.connection = connection;
+        this.frames = new Object[capacity];
+        this.keys = new long[capacity];
+        this.policy = policy;
+        this.executor = executor;
+        this.counters = counters;
+        this.onFailure = onFailure;
+    }
+
+    ChatConnection<F> connection() {
+        return connection;
+    }
+
+    void offer(F frame, long coalesceKey) {
+        boolean schedule;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (coalesceKey != 0 && replace(frame, coalesceKey)) {
+                counters.coalesced.increment();
+                return;
+            }
+            if (size == frames.length) {
+                counters.dropped.increment();
+                droppedSinceDrain++;
+                if (policy == OverflowPolicy.DROP_NEWEST) {
+                    return;
+                }
+                head = (head + 1) % frames.length;
+                size--;
+            }
+            int tail = (head + size) % frames.length;
+            frames[tail] = frame;
+            keys[tail] = coalesceKey;
+            size++;
+            schedule = !draining;
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+        if (schedule) {
+            executor.execute(this);
+        }
+    }
+
+    int depth() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Discards queued frames and closes the connection, now or when the
+     * running drain task stops. Safe to call more than once.
+     */
+    void close() {
+        boolean closeNow;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            Arrays.fill(frames, null);
+            size = 0;
+            closeNow = !draining;
+        } finally {
+            lock.unlock();
+        }
+        if (closeNow) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Drain task. Runs on the executor; at most one instance per buffer is
+     * scheduled at a time.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void run() {
+        try {
+            while (true) {
+                int count;
+                long dropped;
+                lock.lock();
+                try {
+                    if (closed) {
+                        draining = false;
+                        break;
+                    }
+                    if (size == 0) {
+                        draining = false;
+                        return;
+                    }
+                    count = Math.min(size, DRAIN_BATCH);
+                    for (int i = 0; i < count; i++) {
+                        batch[i] = frames[head];
+                        frames[head] = null;
+                        head = (head + 1) % frames.length;
+                    }
+                    size -= count;
+                    dropped = droppedSinceDrain;
+                    droppedSinceDrain = 0;
+                } finally {
+                    lock.unlock();
+                }
+                if (dropped > 0) {
+                    connection.dropped(dropped);
+                }
+                for (int i = 0; i < count; i++) {
+                    connection.send((F) batch[i]);
+                    batch[i] = null;
+                }
+                counters.sent.add(count);
+            }
+        } catch (IOException | RuntimeException e) {
+            Arrays.fill(batch, null);
+            boolean closeRequested;
+            lock.lock();
+            try {
+                draining = false;
+                closeRequested = closed;
+            } finally {
+                lock.unlock();
+            }
+            if (!closeRequested) {
+                onFailure.run();
+                return;
+            }
+        }
+        connection.close();
+    }
+
+    private boolean replace(F frame, long coalesceKey) {
+        for (int i = 0, slot = head; i < size; i++, slot = (slot + 1) % frames.length) {
+            if (keys[slot] == coalesceKey) {
+                frames[slot] = frame;
+                return true;
+            }
+        }
+        return false;
+    }
+}
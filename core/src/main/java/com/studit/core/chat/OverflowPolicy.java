@@ -0,0 +1,14 @@
+package com.studit.core.chat;
+
+/**
+ * What an {@link OutboundBuffer} does with a frame that arrives while it is
+ * full.
+ */
+public enum OverflowPolicy {
+
+    /** Discard the oldest queued frame; the client sees the latest traffic. */
+    DROP_OLDEST,
+
+    /** Discard the incoming frame; the client sees an uninterrupted prefix. */
+    DROP_NEWEST
+}
@@ -0,0 +1,27 @@
+package com.studit.core.notification;
+
+/**
+ * One pending notification, possibly standing for several coalesced events
+ * of the same type about the same subject.
+ *
+ * @param actorId member whose action caused the latest event, {@code 0} if none
+ * @param count   events folded into this notification
+ * @param firstAt epoch millis of the earliest event; delivery lag is measured from here
+ * @param lastAt  epoch millis of the latest event
+ */
+public record Notification(long memberId, NotificationType type, long subjectId, long actorId, int count,
+                           long firstAt, long lastAt) {
+
+    public static Notification of(long memberId, NotificationType type, long subjectId, long actorId, long at) {
+        return new Notification(memberId, type, subjectId, actorId, 1, at, at);
+    }
+
+    /**
+     * Folds a later event with the same recipient, type and subject into
+     * this one.
+     */
+    Notification merge(Notification later) {
+        return new Notification(memberId, type, subjectId, later.actorId, count + later.count,
+                Math.min(firstAt, later.firstAt), Math.max(lastAt, later.lastAt));
+    }
+}
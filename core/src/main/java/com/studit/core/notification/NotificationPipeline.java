@@ -0,0 +1,348 @@
+package com.studit.core.notification;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * In-process notification queue with one dispatcher thread.
+ * <p>
+ * Producers only {@link #offer}: a notification with the same recipient,
+ * type and subject as one still waiting is folded into it, so a burst of
+ * joins to one group becomes a single "3 new members" notification per
+ * recipient. The queue is bounded; when it is full new notifications are
+ * dropped and counted rather than blocking the producer.
+ * <p>
+ * The dispatcher sends in insertion order, in batches of up to
+ * {@code batchSize}. It waits for a full batch or until the oldest
+ * notification has waited {@code linger}, whichever comes first. A failed
+ * batch is retried per the {@link RetryPolicy} while new notifications keep
+ * queueing behind it; a batch that exhausts its attempts goes to the
+ * dead-letter handler.
+ */
+public final class NotificationPipeline implements AutoCloseable {
+
+    private static final System.Logger log = System.getLogger(NotificationPipeline.class.getName());
+
+    private final NotificationSender sender;
+    private final int capacity;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final RetryPolicy retry;
+    private final Duration shutdownTimeout;
+    private final Clock clock;
+    private final LongConsumer lagRecorder;
+    private final BiConsumer<List<Notification>, Exception> deadLetters;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<Key, Pending> pending = new LinkedHashMap<>();
+    private boolean closed;
+    private Thread dispatcher;
+
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    private NotificationPipeline(Builder builder) {
+        this.sender = builder.sender;
+        this.capacity = builder.capacity;
+        this.batchSize = builder.batchSize;
+        this.lingerNanos = builder.linger.toNanos();
+        this.retry = builder.retry;
+        this.shutdownTimeout = builder.shutdownTimeout;
+        this.clock = builder.clock;
+        this.lagRecorder = builder.lagRecorder;
+        this.deadLetters = builder.deadLetters;
+    }
+
+    public static Builder builder(NotificationSender sender) {
+        return new Builder(sender);
+    }
+
+    /**
+     * Starts the dispatcher thread.
+     */
+    public void start() {
+        lock.lock();
+        try {
+            if (dispatcher != null) {
+                throw new IllegalStateException("already started");
+            }
+            dispatcher = Thread.ofPlatform().name("notification-dispatcher").daemon(true).start(this::dispatch);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queues a notification, folding it into a waiting one with the same
+     * recipient, type and subject.
+     *
+     * @return {@code false} if it was dropped because the queue is full or closed
+     */
+    public boolean offer(Notification notification) {
+        offered.increment();
+        Key key = new Key(notification.memberId(), notification.type(), notification.subjectId());
+        lock.lock();
+        try {
+            Pending waiting = pending.get(key);
+            if (waiting != null && !closed) {
+                waiting.notification = waiting.notification.merge(notification);
+                coalesced.increment();
+                return true;
+            }
+            if (closed || pending.size() >= capacity) {
+                dropped.increment();
+                return false;
+            }
+            pending.put(key, new Pending(notification, System.nanoTime()));
+            if (pending.size() == 1 || pending.size() == batchSize) {
+                changed.signal();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        int waiting;
+        lock.lock();
+        try {
+            waiting = pending.size();
+        } finally {
+            lock.unlock();
+        }
+        return new Stats(waiting, offered.sum(), coalesced.sum(), dropped.sum(), delivered.sum(), retries.sum(),
+                deadLettered.sum());
+    }
+
+    /**
+     * Stops accepting notifications and gives the dispatcher up to the
+     * shutdown timeout to send what is queued, without backoff between
+     * attempts. An interrupted caller stops waiting at once and keeps its
+     * interrupt status.
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        lock.lock();
+        try {
+            closed = true;
+            changed.signalAll();
+            thread = dispatcher;
+        } finally {
+            lock.unlock();
+        }
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(shutdownTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Dispatcher loop. A dead-letter handler or lag recorder that throws
+     * costs only its own batch; the loop goes on to the next one.
+     */
+    private void dispatch() {
+        try {
+            for (List<Notification> batch; (batch = nextBatch()) != null; ) {
+                try {
+                    deliver(batch);
+                } catch (RuntimeException e) {
+                    log.log(System.Logger.Level.ERROR, "Notification batch of " + batch.size()
+                            + " failed outside the sender", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Blocks until a batch is due.
+     *
+     * @return the batch, or {@code null} once closed and drained
+     */
+    private List<Notification> nextBatch() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                if (pending.isEmpty()) {
+                    if (closed) {
+                        return null;
+                    }
+                    changed.await();
+                    continue;
+                }
+                if (closed || pending.size() >= batchSize) {
+                    break;
+                }
+                long wait = pending.values().iterator().next().queuedAt + lingerNanos - System.nanoTime();
+                if (wait <= 0) {
+                    break;
+                }
+                changed.awaitNanos(wait);
+            }
+            List<Notification> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            for (Iterator<Pending> it = pending.values().iterator(); it.hasNext() && batch.size() < batchSize; ) {
+                batch.add(it.next().notification);
+                it.remove();
+            }
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void deliver(List<Notification> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                sender.send(batch);
+            } catch (Exception e) {
+                if (attempt >= retry.maxAttempts()) {
+                    deadLettered.add(batch.size());
+                    deadLetters.accept(batch, e);
+                    return;
+                }
+                retries.increment();
+                backOff(retry.backoffMillis(attempt));
+                continue;
+            }
+            delivered.add(batch.size());
+            long now = clock.millis();
+            for (Notification notification : batch) {
+                lagRecorder.accept(Math.max(0, now - notification.firstAt()));
+            }
+            return;
+        }
+    }
+
+    /**
+     * Waits before a retry; returns at once when the pipeline is closing.
+     */
+    private void backOff(long millis) throws InterruptedException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(millis);
+        lock.lock();
+        try {
+            while (!closed && remaining > 0) {
+                remaining = changed.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param pending      notifications waiting to be sent right now
+     * @param coalesced    notifications folded into a waiting one since start
+     * @param dropped      notifications refused because the queue was full or closed
+     * @param retries      failed batch deliveries that were retried
+     * @param deadLettered notifications given up on after the last attempt
+     */
+    public record Stats(int pending, long offered, long coalesced, long dropped, long delivered, long retries,
+                        long deadLettered) {
+    }
+
+    private record Key(long memberId, NotificationType type, long subjectId) {
+    }
+
+    private static final class Pending {
+
+        Notification notification;
+        final long queuedAt;
+
+        Pending(Notification notification, long queuedAt) {
+            this.notification = notification;
+            this.queuedAt = queuedAt;
+        }
+    }
+
+    public static final class Builder {
+
+        private final NotificationSender sender;
+        private int capacity = 100_000;
+        private int batchSize = 100;
+        private Duration linger = Duration.ofMillis(500);
+        private RetryPolicy retry = new RetryPolicy(5, Duration.ofMillis(200), Duration.ofSeconds(30));
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+        private Clock clock = Clock.systemUTC();
+        private LongConsumer lagRecorder = lag -> { };
+        private BiConsumer<List<Notification>, Exception> deadLetters = (batch, e) -> { };
+
+        private Builder(NotificationSender sender) {
+            this.sender = sender;
+        }
+
+        /** Most notifications waiting at once. */
+        public Builder capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /** Longest a notification waits for its batch to fill. */
+        public Builder linger(Duration linger) {
+            this.linger = linger;
+            return this;
+        }
+
+        public Builder retry(RetryPolicy retry) {
+            this.retry = retry;
+            return this;
+        }
+
+        public Builder shutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /** Receives the milliseconds from first event to delivery, per notification. */
+        public Builder lagRecorder(LongConsumer lagRecorder) {
+            this.lagRecorder = lagRecorder;
+            return this;
+        }
+
+        /** Receives each batch that failed its last attempt, with the last error. */
+        public Builder deadLetters(BiConsumer<List<Notification>, Exception> deadLetters) {
+            this.deadLetters = deadLetters;
+            return this;
+        }
+
+        public NotificationPipeline build() {
+            if (capacity < 1 || batchSize < 1) {
+                throw new IllegalArgumentException("capacity and batch size must be positive");
+            }
+            return new NotificationPipeline(this);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.studit.core.notification;
+
+import java.util.List;
+
+/**
+ * Delivery channel (push, e-mail, ...). Called from the pipeline's
+ * dispatcher thread only, one batch at a time.
+ */
+@FunctionalInterface
+public interface NotificationSender {
+
+    /**
+     * Delivers the whole batch or throws; a failed batch is retried as a
+     * whole, so delivery must tolerate duplicates.
+     */
+    void send(List<Notification> batch) throws Exception;
+}
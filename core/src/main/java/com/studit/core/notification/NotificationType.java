@@ -0,0 +1,13 @@
+package com.studit.core.notification;
+
+public enum NotificationType {
+
+    /** Someone joined a group the recipient belongs to; the subject is the group. */
+    MEMBER_JOINED,
+
+    /** Someone left a group the recipient belongs to; the subject is the group. */
+    MEMBER_LEFT,
+
+    /** A session of the recipient's group starts soon; the subject is the group. */
+    STUDY_REMINDER
+}
@@ -0,0 +1,28 @@
+package com.studit.core.notification;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with full jitter: before retry {@code n} the pipeline
+ * waits a random time up to {@code min(maxBackoff, initialBackoff * 2^(n-1))}.
+ *
+ * @param maxAttempts deliveries tried per batch before it is dropped
+ */
+public record RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+    public RetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("max attempts must be positive: " + maxAttempts);
+        }
+    }
+
+    /**
+     * @param attempt the attempt that just failed, starting at 1
+     */
+    long backoffMillis(int attempt) {
+        long ceiling = initialBackoff.toMillis() << Math.min(attempt - 1, 30);
+        ceiling = Math.min(ceiling < 0 ? Long.MAX_VALUE : ceiling, maxBackoff.toMillis());
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Framework-free building blocks of the STUDIT backend.
+ * <p>
+ * Everything under this package is plain Java so the same code paths can be
+ * exercised by the Spring application in {@code :api} and by the JMH suites
+ * in {@code :benchmarks} without starting a container.
+ */
+package com.studit.core;
@@ -0,0 +1,116 @@
+package com.studit.core.paging;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.CRC32C;
+
+/**
+ * Opaque keyset position: the sort key of the last row a client has seen.
+ * <p>
+ * Encoded as URL-safe Base64 of a version byte, the key values and a CRC32C
+ * so that truncated or hand-edited cursors are rejected instead of silently
+ * landing on an arbitrary page. Clients must treat the string as opaque; the
+ * encoding may change between versions.
+ */
+public final class Cursor {
+
+    private static final byte VERSION = 1;
+    private static final int MAX_KEYS = 4;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final long[] keys;
+
+    private Cursor(long[] keys) {
+        this.keys = keys;
+    }
+
+    public static Cursor of(long... keys) {
+        if (keys.length == 0 || keys.length > MAX_KEYS) {
+            throw new IllegalArgumentException("a cursor holds 1 to " + MAX_KEYS + " keys");
+        }
+        return new Cursor(keys.clone());
+    }
+
+    /**
+     * Parses a cursor previously produced by {@link #encode()}.
+     *
+     * @throws InvalidCursorException if the value is malformed or was not
+     *                                produced by this class
+     */
+    public static Cursor decode(String value) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("cursor is not valid Base64");
+        }
+        int keyBytes = bytes.length - 1 - Integer.BYTES;
+        if (keyBytes <= 0 || keyBytes % Long.BYTES != 0 || keyBytes / Long.BYTES > MAX_KEYS) {
+            throw new InvalidCursorException("cursor has an unexpected length");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.get() != VERSION) {
+            throw new InvalidCursorException("cursor version is not supported");
+        }
+        long[] keys = new long[keyBytes / Long.BYTES];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = buffer.getLong();
+        }
+        if (buffer.getInt() != checksum(bytes, bytes.length - Integer.BYTES)) {
+            throw new InvalidCursorException("cursor checksum does not match");
+        }
+        return new Cursor(keys);
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + keys.length * Long.BYTES + Integer.BYTES);
+        buffer.put(VERSION);
+        for (long key : keys) {
+            buffer.putLong(key);
+        }
+        buffer.putInt(checksum(buffer.array(), buffer.position()));
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public long key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Returns the single key of a one-column keyset, rejecting cursors that
+     * were issued for a different list.
+     */
+    public long singleKey() {
+        if (keys.length != 1) {
+            throw new InvalidCursorException("cursor does not belong to this list");
+        }
+        return keys[0];
+    }
+
+    private static int checksum(byte[] bytes, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Cursor other && Arrays.equals(keys, other.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(keys);
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
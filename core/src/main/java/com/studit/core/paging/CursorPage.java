@@ -0,0 +1,51 @@
+package com.studit.core.paging;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * One page of a keyset-paginated list.
+ *
+ * @param items rows of this page, in list order
+ * @param next  cursor for the following page, or {@code null} on the last page
+ */
+public record CursorPage<T>(List<T> items, Cursor next) {
+
+    public CursorPage {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * Builds a page from {@link PageRequest#fetchSize()} rows: the extra row,
+     * if present, only signals that another page exists and is dropped.
+     */
+    public static <T> CursorPage<T> fromOverfetch(List<T> rows, PageRequest request, ToLongFunction<T> key) {
+        if (rows.size() <= request.size()) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, request.size());
+        return new CursorPage<>(items, Cursor.of(key.applyAsLong(items.get(items.size() - 1))));
+    }
+
+    /**
+     * The first {@code size} items of this page, as if it had been fetched
+     * with that size. Lets one cached first page serve every smaller page
+     * size.
+     */
+    public CursorPage<T> head(int size, ToLongFunction<T> key) {
+        if (size >= items.size()) {
+            return this;
+        }
+        List<T> head = items.subList(0, size);
+        return new CursorPage<>(head, Cursor.of(key.applyAsLong(head.get(size - 1))));
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), next);
+    }
+}
@@ -0,0 +1,13 @@
+package com.studit.core.paging;
+
+/**
+ * Thrown when a client-supplied cursor cannot be decoded.
+ */
+public class InvalidCursorException extends InvalidPageRequestException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
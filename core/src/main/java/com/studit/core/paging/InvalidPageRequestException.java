@@ -0,0 +1,14 @@
+package com.studit.core.paging;
+
+/**
+ * Thrown when client-supplied paging parameters are out of range or cannot
+ * be decoded.
+ */
+public class InvalidPageRequestException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
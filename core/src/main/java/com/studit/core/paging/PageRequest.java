@@ -0,0 +1,46 @@
+package com.studit.core.paging;
+
+/**
+ * Keyset page request: where to resume and how many rows to return.
+ *
+ * @param after position of the last row already seen, or {@code null} for the first page
+ * @param size  rows per page, between 1 and {@link #MAX_SIZE}
+ */
+public record PageRequest(Cursor after, int size) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public PageRequest {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new InvalidPageRequestException("page size must be between 1 and " + MAX_SIZE + ": " + size);
+        }
+    }
+
+    public static PageRequest first(int size) {
+        return new PageRequest(null, size);
+    }
+
+    /**
+     * Builds a request from raw query parameters.
+     *
+     * @param cursor encoded cursor, blank or {@code null} for the first page
+     * @throws InvalidPageRequestException if the cursor or the size is invalid
+     */
+    public static PageRequest of(String cursor, Integer size) {
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+        return new PageRequest(after, size == null ? DEFAULT_SIZE : size);
+    }
+
+    public boolean isFirst() {
+        return after == null;
+    }
+
+    /**
+     * Number of rows to fetch so that the presence of a next page can be
+     * detected without a separate count query.
+     */
+    public int fetchSize() {
+        return size + 1;
+    }
+}
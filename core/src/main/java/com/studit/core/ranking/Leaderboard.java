@@ -0,0 +1,302 @@
+package com.studit.core.ranking;
+
+import com.studit.core.paging.Cursor;
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.InvalidCursorException;
+import com.studit.core.paging.PageRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Members ordered by score, highest first, ties broken by lower member id.
+ * <p>
+ * Entries live in an indexable skip list: every forward link also records
+ * how many entries it jumps over, so the rank of a member is the sum of the
+ * spans along its search path. Changing a score, looking up a rank and
+ * seeking to a rank or a keyset cursor are all {@code O(log n)}; a page of
+ * {@code k} entries then costs {@code O(log n + k)}. Nodes hold primitive
+ * keys only, and the current score of each member sits in an open-addressing
+ * map so an update can find the node it replaces.
+ * <p>
+ * Ranks are positions: two members with the same score get consecutive
+ * ranks in member id order. Reads run concurrently; writes take an
+ * exclusive lock.
+ */
+public final class Leaderboard {
+
+    /** Enough for 4^16 entries at p = 1/4. */
+    private static final int MAX_LEVEL = 16;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongLongMap scores = new LongLongMap();
+    private final Node head = new Node(Long.MAX_VALUE, Long.MIN_VALUE, MAX_LEVEL);
+    private int level = 1;
+    private int length;
+
+    /**
+     * Adds {@code delta} to the member's score, entering them if absent.
+     *
+     * @return the new score
+     */
+    public long add(long memberId, long delta) {
+        lock.writeLock().lock();
+        try {
+            long previous = scores.get(memberId, -1);
+            long score = previous < 0 ? delta : previous + delta;
+            move(memberId, previous, score);
+            return score;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sets the member's score, entering them if absent.
+     */
+    public void set(long memberId, long score) {
+        lock.writeLock().lock();
+        try {
+            move(memberId, scores.get(memberId, -1), score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long memberId) {
+        lock.writeLock().lock();
+        try {
+            long score = scores.get(memberId, -1);
+            if (score >= 0) {
+                delete(score, memberId);
+                scores.remove(memberId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < MAX_LEVEL; i++) {
+                head.next[i] = null;
+                head.span[i] = 0;
+            }
+            level = 1;
+            length = 0;
+            scores.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The member's rank and score, or empty if they are not on the board.
+     */
+    public Optional<Entry> entry(long memberId) {
+        lock.readLock().lock();
+        try {
+            long score = scores.get(memberId, -1);
+            if (score < 0) {
+                return Optional.empty();
+            }
+            long rank = 0;
+            Node x = head;
+            for (int i = level - 1; i >= 0; i--) {
+                while (x.next[i] != null && !after(x.next[i], score, memberId)) {
+                    rank += x.span[i];
+                    x = x.next[i];
+                }
+            }
+            return Optional.of(new Entry(rank, memberId, score));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code k} highest-ranked entries.
+     */
+    public List<Entry> top(int k) {
+        lock.readLock().lock();
+        try {
+            return collect(head.next[0], 1, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * One page in rank order. The cursor carries the score and member id of
+     * the last entry, so it keeps its place while scores above it change.
+     */
+    public CursorPage<Entry> page(PageRequest request) {
+        lock.readLock().lock();
+        try {
+            Node first;
+            long rank;
+            if (request.isFirst()) {
+                first = head.next[0];
+                rank = 1;
+            } else {
+                Cursor cursor = request.after();
+                if (cursor.size() != 2) {
+                    throw new InvalidCursorException("cursor does not belong to this list");
+                }
+                long score = cursor.key(0);
+                long memberId = cursor.key(1);
+                rank = 0;
+                Node x = head;
+                for (int i = level - 1; i >= 0; i--) {
+                    while (x.next[i] != null && !after(x.next[i], score, memberId)) {
+                        rank += x.span[i];
+                        x = x.next[i];
+                    }
+                }
+                first = x.next[0];
+                rank++;
+            }
+            List<Entry> rows = collect(first, rank, request.fetchSize());
+            if (rows.size() <= request.size()) {
+                return new CursorPage<>(rows, null);
+            }
+            List<Entry> items = rows.subList(0, request.size());
+            Entry last = items.get(items.size() - 1);
+            return new CursorPage<>(items, Cursor.of(last.score(), last.memberId()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Entry> collect(Node from, long firstRank, int limit) {
+        List<Entry> entries = new ArrayList<>(Math.min(limit, 128));
+        long rank = firstRank;
+        for (Node x = from; x != null && entries.size() < limit; x = x.next[0]) {
+            entries.add(new Entry(rank++, x.memberId, x.score));
+        }
+        return entries;
+    }
+
+    private void move(long memberId, long previous, long score) {
+        if (score < 0) {
+            throw new IllegalArgumentException("score must not be negative: " + score);
+        }
+        if (previous == score) {
+            return;
+        }
+        if (previous >= 0) {
+            delete(previous, memberId);
+        }
+        insert(score, memberId);
+        scores.put(memberId, score);
+    }
+
+    private void insert(long score, long memberId) {
+        Node[] update = new Node[MAX_LEVEL];
+        long[] rank = new long[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && before(x.next[i], score, memberId)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = length;
+            }
+            level = nodeLevel;
+        }
+        Node node = new Node(score, memberId, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        length++;
+    }
+
+    private void delete(long score, long memberId) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && before(x.next[i], score, memberId)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        Node target = x.next[0];
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        length--;
+    }
+
+    /** Whether {@code node} ranks ahead of ({@code score}, {@code memberId}). */
+    private static boolean before(Node node, long score, long memberId) {
+        return node.score > score || (node.score == score && node.memberId < memberId);
+    }
+
+    /** Whether {@code node} ranks behind ({@code score}, {@code memberId}). */
+    private static boolean after(Node node, long score, long memberId) {
+        return node.score < score || (node.score == score && node.memberId > memberId);
+    }
+
+    /** Geometric level with p = 1/4, as in Redis sorted sets. */
+    private static int randomLevel() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        return 1 + Integer.numberOfTrailingZeros(bits | 0x8000_0000) / 2;
+    }
+
+    /**
+     * @param rank 1-based position on the board
+     */
+    public record Entry(long rank, long memberId, long score) {
+    }
+
+    private static final class Node {
+
+        final long score;
+        final long memberId;
+        final Node[] next;
+        /** Entries passed when following {@code next[i]}; to the end of the list for a null link. */
+        final long[] span;
+
+        Node(long score, long memberId, int level) {
+            this.score = score;
+            this.memberId = memberId;
+            this.next = new Node[level];
+            this.span = new long[level];
+        }
+    }
+}
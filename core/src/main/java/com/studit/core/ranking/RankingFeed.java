@@ -0,0 +1,75 @@
+package com.studit.core.ranking;
+
+import com.studit.core.attendance.AttendanceSink;
+import com.studit.core.attendance.SessionSnapshot;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link AttendanceSink} decorator that credits flushed study time to the
+ * {@link Rankings}.
+ * <p>
+ * Attendance flushes carry absolute per-session totals, so the feed
+ * remembers how much of each open session it has already credited and adds
+ * only the difference. Crediting happens after the delegate has stored the
+ * batch; a failed write credits nothing, and the retried batch carries the
+ * full difference. Writes and {@link #rebuild} are serialised, so a rebuild
+ * never counts a batch that is also credited incrementally. The lock is held
+ * across database calls, so it is a {@link ReentrantLock} rather than a
+ * monitor that would pin a virtual thread's carrier.
+ */
+public final class RankingFeed implements AttendanceSink {
+
+    private final AttendanceSink delegate;
+    private final Rankings rankings;
+    private final Map<SessionKey, Long> credited = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public RankingFeed(AttendanceSink delegate, Rankings rankings) {
+        this.delegate = delegate;
+        this.rankings = rankings;
+    }
+
+    @Override
+    public void write(List<SessionSnapshot> sessions) throws Exception {
+        lock.lock();
+        try {
+            delegate.write(sessions);
+            for (SessionSnapshot session : sessions) {
+                SessionKey key = new SessionKey(session.memberId(), session.startedAt());
+                Long before = session.isOpen()
+                        ? credited.put(key, session.studiedMillis())
+                        : credited.remove(key);
+                long delta = session.studiedMillis() - (before == null ? 0 : before);
+                rankings.credit(session.memberId(), session.groupId(), delta);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces every board with the totals in {@code source}.
+     *
+     * @return number of members on the global board
+     */
+    public int rebuild(StudyTimeSource source) throws Exception {
+        lock.lock();
+        try {
+            rankings.clear();
+            credited.clear();
+            source.totals(rankings::credit);
+            for (SessionSnapshot session : source.openSessions()) {
+                credited.put(new SessionKey(session.memberId(), session.startedAt()), session.studiedMillis());
+            }
+            return rankings.global().size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record SessionKey(long memberId, long startedAt) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.studit.core.ranking;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Study-time leaderboards: one across all groups and one per group, scored
+ * in milliseconds studied.
+ */
+public final class Rankings {
+
+    private final Leaderboard global = new Leaderboard();
+    private final Map<Long, Leaderboard> groups = new ConcurrentHashMap<>();
+    private final Set<Long> removedGroups = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Adds study time to the member's global and group scores.
+     *
+     * @param groupId the group it was studied in, or {@code 0} to credit only
+     *                the global board (e.g. the group has since been deleted).
+     *                Time credited to a removed group only counts globally.
+     */
+    public void credit(long memberId, long groupId, long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        global.add(memberId, millis);
+        if (groupId != 0) {
+            // Checked inside compute, which is atomic with removeGroup's
+            // remove of the same key, so a late credit cannot revive a board.
+            Leaderboard board = groups.compute(groupId, (id, existing) -> {
+                if (removedGroups.contains(id)) {
+                    return null;
+                }
+                return existing != null ? existing : new Leaderboard();
+            });
+            if (board != null) {
+                board.add(memberId, millis);
+            }
+        }
+    }
+
+    public Leaderboard global() {
+        return global;
+    }
+
+    public Optional<Leaderboard> group(long groupId) {
+        return Optional.ofNullable(groups.get(groupId));
+    }
+
+    /**
+     * Drops the group's board for good. Group ids are never reused, so the
+     * id is remembered and flushes that arrive afterwards leave it alone.
+     */
+    public void removeGroup(long groupId) {
+        removedGroups.add(groupId);
+        groups.remove(groupId);
+    }
+
+    /**
+     * Empties every board; removed groups stay removed.
+     */
+    public void clear() {
+        global.clear();
+        groups.clear();
+    }
+}
@@ -0,0 +1,31 @@
+package com.studit.core.ranking;
+
+import com.studit.core.attendance.SessionSnapshot;
+import java.util.List;
+
+/**
+ * Durable study time that {@link RankingFeed#rebuild} loads the boards from.
+ */
+public interface StudyTimeSource {
+
+    /**
+     * Calls {@code visitor} once per member and group with the study time
+     * stored for that pair.
+     */
+    void totals(TotalVisitor visitor) throws Exception;
+
+    /**
+     * Stored sessions that have not ended yet, with the study time already
+     * counted in {@link #totals}.
+     */
+    List<SessionSnapshot> openSessions() throws Exception;
+
+    @FunctionalInterface
+    interface TotalVisitor {
+
+        /**
+         * @param groupId {@code 0} if the group no longer exists
+         */
+        void accept(long memberId, long groupId, long studiedMillis);
+    }
+}
@@ -0,0 +1,107 @@
+package com.studit.core.search;
+
+import java.util.BitSet;
+
+/**
+ * Ordered set of document ordinals that can be walked from high to low.
+ * Walking downwards gives newest-first results because ordinals are handed
+ * out in creation order.
+ */
+interface DocIdSet {
+
+    int NO_MORE_DOCS = -1;
+
+    /**
+     * Returns the greatest ordinal in this set that is {@code <= target}, or
+     * {@link #NO_MORE_DOCS} if there is none.
+     */
+    int previous(int target);
+
+    /**
+     * Upper bound on the number of ordinals, used to drive intersections from
+     * the most selective clause.
+     */
+    int cost();
+
+    /**
+     * Views a bitmap of ordinals. The bitmap is not copied and must not change
+     * while the view is in use.
+     */
+    static DocIdSet of(BitSet bits, int cardinality) {
+        return new DocIdSet() {
+            @Override
+            public int previous(int target) {
+                return bits.previousSetBit(target);
+            }
+
+            @Override
+            public int cost() {
+                return cardinality;
+            }
+        };
+    }
+
+    static DocIdSet union(DocIdSet[] sets) {
+        if (sets.length == 1) {
+            return sets[0];
+        }
+        int cost = 0;
+        for (DocIdSet set : sets) {
+            cost += set.cost();
+        }
+        int totalCost = cost;
+        return new DocIdSet() {
+            @Override
+            public int previous(int target) {
+                int best = NO_MORE_DOCS;
+                for (DocIdSet set : sets) {
+                    best = Math.max(best, set.previous(target));
+                }
+                return best;
+            }
+
+            @Override
+            public int cost() {
+                return totalCost;
+            }
+        };
+    }
+
+    /**
+     * Leapfrog intersection: every clause jumps to the candidate proposed by
+     * the previous one until all agree. {@code sets} must be sorted by cost so
+     * the rarest clause proposes candidates.
+     */
+    static DocIdSet intersection(DocIdSet[] sets) {
+        if (sets.length == 1) {
+            return sets[0];
+        }
+        return new DocIdSet() {
+            @Override
+            public int previous(int target) {
+                int candidate = target;
+                int agreed = 0;
+                int i = 0;
+                while (agreed < sets.length) {
+                    int doc = sets[i].previous(candidate);
+                    if (doc == NO_MORE_DOCS) {
+                        return NO_MORE_DOCS;
+                    }
+                    if (doc == candidate) {
+                        agreed++;
+                    } else {
+                        candidate = doc;
+                        agreed = 1;
+                    }
+                    i = (i + 1) % sets.length;
+                }
+                return candidate;
+            }
+
+            @Override
+            public int cost() {
+                return sets[0].cost();
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.studit.core.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Sorted, growable array of document ordinals for one term.
+ * <p>
+ * Ordinals are handed out in increasing order, so indexing a new document is
+ * an append. Updates and deletes shift the tail, which is cheap next to the
+ * memory a dense bitmap per rare term would cost at a million documents.
+ * Not thread-safe; guarded by the owning index's lock.
+ */
+final class PostingList implements DocIdSet {
+
+    private int[] ordinals = new int[4];
+    private int size;
+
+    void add(int ordinal) {
+        if (size == 0 || ordinals[size - 1] < ordinal) {
+            ensureCapacity();
+            ordinals[size++] = ordinal;
+            return;
+        }
+        int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        ensureCapacity();
+        System.arraycopy(ordinals, insertAt, ordinals, insertAt + 1, size - insertAt);
+        ordinals[insertAt] = ordinal;
+        size++;
+    }
+
+    void remove(int ordinal) {
+        int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ordinals, pos + 1, ordinals, pos, size - pos - 1);
+        size--;
+        if (size > 16 && size < ordinals.length >>> 2) {
+            ordinals = Arrays.copyOf(ordinals, ordinals.length >>> 1);
+        }
+    }
+
+    void addTo(BitSet bits) {
+        for (int i = 0; i < size; i++) {
+            bits.set(ordinals[i]);
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int previous(int target) {
+        if (size == 0 || target < ordinals[0]) {
+            return NO_MORE_DOCS;
+        }
+        if (target >= ordinals[size - 1]) {
+            return ordinals[size - 1];
+        }
+        int pos = Arrays.binarySearch(ordinals, 0, size, target);
+        return pos >= 0 ? ordinals[pos] : ordinals[-pos - 2];
+    }
+
+    @Override
+    public int cost() {
+        return size;
+    }
+
+    private void ensureCapacity() {
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size + (size >>> 1) + 1);
+        }
+    }
+}
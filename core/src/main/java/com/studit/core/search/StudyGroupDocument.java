@@ -0,0 +1,33 @@
+package com.studit.core.search;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Searchable projection of a study group. Holds just enough to render a
+ * search hit so that result pages never have to go back to the database.
+ */
+public record StudyGroupDocument(
+        long groupId,
+        String title,
+        Set<String> tags,
+        String region,
+        Set<DayOfWeek> days,
+        LocalTime startTime) {
+
+    public StudyGroupDocument {
+        Objects.requireNonNull(title, "title");
+        Objects.requireNonNull(region, "region");
+        Objects.requireNonNull(startTime, "startTime");
+        tags = Set.copyOf(tags);
+        days = days.isEmpty() ? Set.of() : Collections.unmodifiableSet(EnumSet.copyOf(days));
+    }
+
+    public TimeBand timeBand() {
+        return TimeBand.of(startTime);
+    }
+}
@@ -0,0 +1,297 @@
+package com.studit.core.search;
+
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.PageRequest;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over study groups.
+ * <p>
+ * Every group gets an ordinal on first insert; ordinals grow with arrival
+ * order and are kept across updates, so walking postings downwards yields
+ * newest-first results. Keyset cursors carry group ids rather than ordinals.
+ * A removed group keeps its ordinal as a tombstone, so a cursor naming it
+ * still resumes in place even when creates committed out of id order. Ids
+ * this index never saw (groups deleted before a restart) are located by
+ * binary search over the leading run of ordinals whose ids ascend, which
+ * covers everything the bulk load read.
+ * <p>
+ * Title tokens, tags, region, meeting days and time band are indexed as
+ * field-prefixed terms in one dictionary. Queries are answered by a leapfrog
+ * intersection over the posting lists of the requested criteria, so a page
+ * costs roughly {@code limit * log(postings)} regardless of how deep into
+ * the result set it is and no document outside the candidate postings is
+ * ever looked at.
+ * <p>
+ * Reads run concurrently; writes take an exclusive lock for the handful of
+ * posting-list edits they need.
+ */
+public final class StudyGroupIndex {
+
+    /**
+     * Title terms a trailing prefix may expand to before the expansion is
+     * OR-ed into a bitmap up front instead of being merged lazily per hit.
+     */
+    static final int LAZY_PREFIX_EXPANSIONS = 16;
+
+    private static final String TITLE = "t:";
+    private static final String TAG = "g:";
+    private static final String REGION = "r:";
+    private static final String DAY = "d:";
+    private static final String BAND = "b:";
+
+    private static final DocIdSet EMPTY = new DocIdSet() {
+        @Override
+        public int previous(int target) {
+            return NO_MORE_DOCS;
+        }
+
+        @Override
+        public int cost() {
+            return 0;
+        }
+    };
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final NavigableMap<String, PostingList> titleTerms = new TreeMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private int liveCount;
+    private int idOrderedPrefix;
+    private long[] groupIds = new long[1024];
+    private StudyGroupDocument[] documents = new StudyGroupDocument[1024];
+    private String[][] documentTerms = new String[1024][];
+    private int nextOrdinal;
+
+    /**
+     * Adds the group or replaces its previous version in place. Ids are never
+     * reused, so an update for a group that was already removed arrived late
+     * and is ignored.
+     */
+    public void upsert(StudyGroupDocument document) {
+        String[] terms = termsOf(document);
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(document.groupId());
+            int ordinal;
+            if (existing == null) {
+                ordinal = nextOrdinal++;
+                ensureCapacity(ordinal);
+                groupIds[ordinal] = document.groupId();
+                ordinals.put(document.groupId(), ordinal);
+                live.set(ordinal);
+                liveCount++;
+                if (idOrderedPrefix == ordinal && (ordinal == 0 || groupIds[ordinal - 1] < document.groupId())) {
+                    idOrderedPrefix++;
+                }
+            } else if (!live.get(existing)) {
+                return;
+            } else {
+                ordinal = existing;
+                unlink(ordinal, documentTerms[ordinal]);
+            }
+            link(ordinal, terms);
+            documents[ordinal] = document;
+            documentTerms[ordinal] = terms;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long groupId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(groupId);
+            if (ordinal == null || !live.get(ordinal)) {
+                return false;
+            }
+            unlink(ordinal, documentTerms[ordinal]);
+            live.clear(ordinal);
+            liveCount--;
+            documents[ordinal] = null;
+            documentTerms[ordinal] = null;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the next page of newest-first matches. The cursor carries the
+     * group id of the last hit, so it stays meaningful across restarts and
+     * when that group has since been deleted.
+     */
+    public CursorPage<StudyGroupDocument> search(StudyGroupQuery query, PageRequest page) {
+        lock.readLock().lock();
+        try {
+            DocIdSet matches = compile(query);
+            int target = (page.isFirst() ? nextOrdinal : positionAfter(page.after().singleKey())) - 1;
+            List<StudyGroupDocument> hits = new ArrayList<>(Math.min(page.fetchSize(), 64));
+            while (target >= 0 && hits.size() < page.fetchSize()) {
+                int doc = matches.previous(target);
+                if (doc == DocIdSet.NO_MORE_DOCS) {
+                    break;
+                }
+                hits.add(documents[doc]);
+                target = doc - 1;
+            }
+            return CursorPage.fromOverfetch(hits, page, StudyGroupDocument::groupId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Exclusive upper bound on the ordinals that come after {@code groupId}
+     * in newest-first order. Live and removed groups resolve through their
+     * ordinal; an unknown id predates this index's bulk load, whose ordinals
+     * ascend with id, and everything indexed after that run is newer.
+     */
+    private int positionAfter(long groupId) {
+        Integer ordinal = ordinals.get(groupId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int pos = Arrays.binarySearch(groupIds, 0, idOrderedPrefix, groupId);
+        return pos >= 0 ? pos : -pos - 1;
+    }
+
+    private DocIdSet compile(StudyGroupQuery query) {
+        List<DocIdSet> clauses = new ArrayList<>();
+        List<String> words = Tokenizer.tokens(query.text());
+        for (int i = 0; i < words.size(); i++) {
+            boolean last = i == words.size() - 1;
+            clauses.add(last ? titlePrefix(words.get(i)) : term(TITLE + words.get(i)));
+        }
+        if (!query.tags().isEmpty()) {
+            clauses.add(anyOf(TAG, query.tags()));
+        }
+        if (query.region() != null) {
+            clauses.add(term(REGION + query.region()));
+        }
+        if (!query.days().isEmpty()) {
+            clauses.add(anyOf(DAY, query.days()));
+        }
+        if (!query.timeBands().isEmpty()) {
+            clauses.add(anyOf(BAND, query.timeBands()));
+        }
+        if (clauses.isEmpty()) {
+            return liveDocs();
+        }
+        DocIdSet[] sorted = clauses.toArray(DocIdSet[]::new);
+        Arrays.sort(sorted, Comparator.comparingInt(DocIdSet::cost));
+        return sorted[0].cost() == 0 ? EMPTY : DocIdSet.intersection(sorted);
+    }
+
+    /**
+     * Matches every title term starting with {@code prefix}. Short prefixes
+     * can expand to hundreds of terms, where probing each posting list per
+     * hit would dominate, so those are OR-ed into one bitmap first.
+     */
+    private DocIdSet titlePrefix(String prefix) {
+        NavigableMap<String, PostingList> range =
+                titleTerms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (range.isEmpty()) {
+            return EMPTY;
+        }
+        if (range.size() <= LAZY_PREFIX_EXPANSIONS) {
+            return DocIdSet.union(range.values().toArray(DocIdSet[]::new));
+        }
+        BitSet bits = new BitSet(nextOrdinal);
+        for (PostingList list : range.values()) {
+            list.addTo(bits);
+        }
+        return DocIdSet.of(bits, bits.cardinality());
+    }
+
+    private DocIdSet anyOf(String field, Set<?> values) {
+        DocIdSet[] sets = values.stream()
+                .map(value -> postings.get(field + value))
+                .filter(Objects::nonNull)
+                .toArray(DocIdSet[]::new);
+        return sets.length == 0 ? EMPTY : DocIdSet.union(sets);
+    }
+
+    private DocIdSet term(String term) {
+        PostingList list = postings.get(term);
+        return list == null ? EMPTY : list;
+    }
+
+    private DocIdSet liveDocs() {
+        return DocIdSet.of(live, liveCount);
+    }
+
+    private void link(int ordinal, String[] terms) {
+        for (String term : terms) {
+            PostingList list = postings.computeIfAbsent(term, key -> new PostingList());
+            list.add(ordinal);
+            if (term.startsWith(TITLE)) {
+                titleTerms.putIfAbsent(term.substring(TITLE.length()), list);
+            }
+        }
+    }
+
+    private void unlink(int ordinal, String[] terms) {
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            list.remove(ordinal);
+            if (list.isEmpty()) {
+                postings.remove(term);
+                if (term.startsWith(TITLE)) {
+                    titleTerms.remove(term.substring(TITLE.length()));
+                }
+            }
+        }
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal >= documents.length) {
+            int capacity = Math.max(ordinal + 1, documents.length + (documents.length >>> 1));
+            groupIds = Arrays.copyOf(groupIds, capacity);
+            documents = Arrays.copyOf(documents, capacity);
+            documentTerms = Arrays.copyOf(documentTerms, capacity);
+        }
+    }
+
+    private static String[] termsOf(StudyGroupDocument document) {
+        List<String> terms = new ArrayList<>();
+        for (String token : Tokenizer.tokens(document.title())) {
+            terms.add(TITLE + token);
+        }
+        for (String tag : document.tags()) {
+            terms.add(TAG + Tokenizer.keyword(tag));
+        }
+        terms.add(REGION + Tokenizer.keyword(document.region()));
+        for (DayOfWeek day : document.days()) {
+            terms.add(DAY + day);
+        }
+        terms.add(BAND + document.timeBand());
+        return terms.stream().distinct().toArray(String[]::new);
+    }
+}
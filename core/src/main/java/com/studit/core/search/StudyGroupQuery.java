@@ -0,0 +1,110 @@
+package com.studit.core.search;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Filter for {@link StudyGroupIndex#search}. Every populated criterion must
+ * match; within a multi-valued criterion (tags, days, time bands) any value
+ * matches. The last text token is matched as a prefix so that search-as-you-
+ * type works without a separate suggest index.
+ */
+public final class StudyGroupQuery {
+
+    private static final StudyGroupQuery ALL = builder().build();
+
+    private final String text;
+    private final Set<String> tags;
+    private final String region;
+    private final Set<DayOfWeek> days;
+    private final Set<TimeBand> timeBands;
+
+    private StudyGroupQuery(Builder builder) {
+        this.text = builder.text;
+        this.tags = Set.copyOf(builder.tags);
+        this.region = builder.region;
+        this.days = Set.copyOf(builder.days);
+        this.timeBands = Set.copyOf(builder.timeBands);
+    }
+
+    public static StudyGroupQuery all() {
+        return ALL;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String text() {
+        return text;
+    }
+
+    public Set<String> tags() {
+        return tags;
+    }
+
+    public String region() {
+        return region;
+    }
+
+    public Set<DayOfWeek> days() {
+        return days;
+    }
+
+    public Set<TimeBand> timeBands() {
+        return timeBands;
+    }
+
+    public static final class Builder {
+
+        private String text;
+        private final Set<String> tags = new LinkedHashSet<>();
+        private String region;
+        private final Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        private final Set<TimeBand> timeBands = EnumSet.noneOf(TimeBand.class);
+
+        private Builder() {
+        }
+
+        public Builder text(String text) {
+            this.text = text == null || text.isBlank() ? null : text;
+            return this;
+        }
+
+        public Builder tags(Iterable<String> tags) {
+            if (tags != null) {
+                for (String tag : tags) {
+                    if (tag != null && !tag.isBlank()) {
+                        this.tags.add(Tokenizer.keyword(tag));
+                    }
+                }
+            }
+            return this;
+        }
+
+        public Builder region(String region) {
+            this.region = region == null || region.isBlank() ? null : Tokenizer.keyword(region);
+            return this;
+        }
+
+        public Builder days(Iterable<DayOfWeek> days) {
+            if (days != null) {
+                days.forEach(this.days::add);
+            }
+            return this;
+        }
+
+        public Builder timeBands(Iterable<TimeBand> timeBands) {
+            if (timeBands != null) {
+                timeBands.forEach(this.timeBands::add);
+            }
+            return this;
+        }
+
+        public StudyGroupQuery build() {
+            return new StudyGroupQuery(this);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.studit.core.search;
+
+import java.time.LocalTime;
+
+/**
+ * Coarse slot of the day a study group meets in. Searching by band instead of
+ * exact start time keeps the schedule vocabulary small enough to index.
+ */
+public enum TimeBand {
+    DAWN(0),
+    MORNING(6),
+    AFTERNOON(12),
+    EVENING(18);
+
+    private final int fromHour;
+
+    TimeBand(int fromHour) {
+        this.fromHour = fromHour;
+    }
+
+    public static TimeBand of(LocalTime time) {
+        TimeBand[] bands = values();
+        for (int i = bands.length - 1; i > 0; i--) {
+            if (time.getHour() >= bands[i].fromHour) {
+                return bands[i];
+            }
+        }
+        return DAWN;
+    }
+}
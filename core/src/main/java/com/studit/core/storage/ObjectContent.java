@@ -0,0 +1,29 @@
+package com.studit.core.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * An open object. Stays readable until closed even if the object is
+ * replaced or deleted meanwhile.
+ */
+public interface ObjectContent extends Closeable {
+
+    long size() throws IOException;
+
+    /**
+     * Writes {@code count} bytes starting at {@code position} to
+     * {@code target}, letting the operating system move them without
+     * copying through the heap where it can.
+     */
+    void transferTo(long position, long count, WritableByteChannel target) throws IOException;
+
+    /**
+     * The local file holding the object, for servers that can hand a file
+     * straight to the socket; empty for remote stores.
+     */
+    Optional<Path> file();
+}
@@ -0,0 +1,44 @@
+package com.studit.core.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Flat key-to-bytes store with the shape of S3: whole objects are written
+ * once under a key, read by byte range and deleted, with no partial
+ * updates. Keys are {@code /}-separated segments of letters, digits,
+ * {@code .}, {@code _} and {@code -}, none starting with a dot.
+ * <p>
+ * A put becomes visible all at once: readers see the previous object or
+ * the complete new one, never a partial upload.
+ */
+public interface ObjectStorage {
+
+    /**
+     * Streams {@code body} to its end into the object, replacing any
+     * existing one.
+     *
+     * @param maxBytes largest object accepted; the upload is abandoned as
+     *                 soon as the body goes past it
+     * @throws ObjectTooLargeException if the body is longer than {@code maxBytes}
+     */
+    StoredObject put(String key, InputStream body, long maxBytes) throws IOException;
+
+    /**
+     * Opens the object for reading, or returns empty if it does not exist.
+     * The caller must close the returned content.
+     */
+    Optional<ObjectContent> open(String key) throws IOException;
+
+    /**
+     * @return whether the object existed
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * Deletes every object whose key starts with {@code prefix}, which
+     * must end in {@code /}.
+     */
+    void deleteAll(String prefix) throws IOException;
+}
@@ -0,0 +1,16 @@
+package com.studit.core.storage;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link ObjectStorage#put} when the body is longer than allowed.
+ * Nothing is stored.
+ */
+public class ObjectTooLargeException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ObjectTooLargeException(long maxBytes) {
+        super("object is larger than " + maxBytes + " bytes");
+    }
+}
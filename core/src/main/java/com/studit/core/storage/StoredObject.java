@@ -0,0 +1,8 @@
+package com.studit.core.storage;
+
+/**
+ * @param size   length in bytes
+ * @param sha256 lower-case hex digest of the content, computed while it was written
+ */
+public record StoredObject(String key, long size, String sha256) {
+}
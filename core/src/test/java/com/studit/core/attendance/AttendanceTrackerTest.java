@@ -0,0 +1,174 @@
+package com.studit.core.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AttendanceTrackerTest {
+
+    private static final Duration MAX_GAP = Duration.ofMinutes(2);
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+    private static final long MINUTE = 60_000;
+
+    @TempDir
+    Path directory;
+
+    private final List<SessionSnapshot> written = new ArrayList<>();
+    private boolean failing;
+
+    private final AttendanceSink sink = sessions -> {
+        if (failing) {
+            throw new IOException("database unavailable");
+        }
+        written.addAll(sessions);
+    };
+
+    @Test
+    void studyTimeOnlyAccruesAcrossShortGaps() throws Exception {
+        AttendanceTracker tracker = tracker();
+        tracker.checkIn(1, 10, 0);
+        tracker.heartbeat(1, MINUTE);
+        tracker.heartbeat(1, 2 * MINUTE);
+        tracker.heartbeat(1, 7 * MINUTE);
+        tracker.heartbeat(1, 8 * MINUTE);
+
+        assertEquals(3 * MINUTE, tracker.current(1).orElseThrow().studiedMillis());
+    }
+
+    @Test
+    void flushWritesOneRowPerChangedSession() throws Exception {
+        AttendanceTracker tracker = tracker();
+        tracker.checkIn(1, 10, 0);
+        tracker.checkIn(2, 10, 0);
+        for (long at = 1; at <= 30; at++) {
+            tracker.heartbeat(1, at * 1000);
+        }
+
+        assertEquals(2, tracker.flush(30_000));
+        assertEquals(0, tracker.flush(31_000));
+        tracker.heartbeat(2, 40_000);
+        assertEquals(1, tracker.flush(41_000));
+        assertEquals(List.of(1L, 2L, 2L), written.stream().map(SessionSnapshot::memberId).sorted().toList());
+    }
+
+    @Test
+    void idleSessionsCloseAtTheirLastHeartbeat() throws Exception {
+        AttendanceTracker tracker = tracker();
+        tracker.checkIn(1, 10, 0);
+        tracker.heartbeat(1, MINUTE);
+
+        tracker.flush(MINUTE + IDLE_TIMEOUT.toMillis() + 1);
+
+        SessionSnapshot session = written.get(written.size() - 1);
+        assertEquals(MINUTE, session.endedAt());
+        assertEquals(0, tracker.openSessions());
+    }
+
+    @Test
+    void replayAfterACrashRecoversOpenAndClosedSessions() throws Exception {
+        AttendanceTracker before = tracker();
+        before.checkIn(1, 10, 0);
+        before.heartbeat(1, MINUTE);
+        before.flush(MINUTE);
+        before.heartbeat(1, 2 * MINUTE);
+        before.checkIn(2, 20, 0);
+        before.heartbeat(2, MINUTE);
+        before.checkOut(2, 90_000);
+        written.clear();
+        // Crash: no flush and no close; the journal is all that is left.
+
+        AttendanceTracker after = tracker();
+        assertEquals(2, after.recover(2 * MINUTE));
+
+        assertEquals(new SessionSnapshot(1, 10, 0, 2 * MINUTE, 2 * MINUTE, 0), find(1));
+        assertEquals(new SessionSnapshot(2, 20, 0, 90_000, 90_000, 90_000), find(2));
+        assertEquals(1, after.openSessions());
+    }
+
+    @Test
+    void tornTailIsIgnoredOnReplay() throws Exception {
+        AttendanceTracker before = tracker();
+        before.checkIn(1, 10, 0);
+        before.heartbeat(1, MINUTE);
+        Path last = segments().get(segments().size() - 1);
+        try (FileChannel channel = FileChannel.open(last, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(last) - 1);
+        }
+
+        tracker().recover(MINUTE);
+
+        assertEquals(new SessionSnapshot(1, 10, 0, 0, 0, 0), find(1));
+    }
+
+    @Test
+    void failedFlushKeepsOldSegmentsAndRetriesTheBatch() throws Exception {
+        AttendanceTracker tracker = tracker();
+        tracker.checkIn(1, 10, 0);
+        tracker.heartbeat(1, MINUTE);
+        tracker.checkIn(2, 20, 0);
+        tracker.checkOut(2, MINUTE);
+        int segmentsBefore = segments().size();
+
+        failing = true;
+        assertThrows(IOException.class, () -> tracker.flush(MINUTE));
+        assertEquals(segmentsBefore + 1, segments().size());
+
+        failing = false;
+        assertEquals(2, tracker.flush(MINUTE));
+        assertEquals(new SessionSnapshot(1, 10, 0, MINUTE, MINUTE, 0), find(1));
+        assertEquals(new SessionSnapshot(2, 20, 0, MINUTE, MINUTE, MINUTE), find(2));
+        assertEquals(1, segments().size());
+    }
+
+    @Test
+    void crashAfterAFailedFlushStillRecoversEverything() throws Exception {
+        AttendanceTracker before = tracker();
+        before.checkIn(1, 10, 0);
+        before.heartbeat(1, MINUTE);
+        before.checkIn(2, 20, 0);
+        before.checkOut(2, MINUTE);
+        failing = true;
+        assertThrows(IOException.class, () -> before.flush(MINUTE));
+        before.heartbeat(1, 2 * MINUTE);
+
+        failing = false;
+        AttendanceTracker after = tracker();
+        after.recover(2 * MINUTE);
+
+        assertEquals(new SessionSnapshot(1, 10, 0, 2 * MINUTE, 2 * MINUTE, 0), find(1));
+        assertEquals(new SessionSnapshot(2, 20, 0, MINUTE, MINUTE, MINUTE), find(2));
+    }
+
+    private AttendanceTracker tracker() {
+        return new AttendanceTracker(new AttendanceJournal(directory), sink, MAX_GAP, IDLE_TIMEOUT);
+    }
+
+    /** Latest snapshot written for the member. */
+    private SessionSnapshot find(long memberId) {
+        for (int i = written.size() - 1; i >= 0; i--) {
+            if (written.get(i).memberId() == memberId) {
+                return written.get(i);
+            }
+        }
+        throw new AssertionError("nothing written for member " + memberId + ": " + written);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("attendance-.*\\.log"))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
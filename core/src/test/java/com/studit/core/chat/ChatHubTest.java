@@ -0,0 +1,103 @@
+package com.studit.core.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class ChatHubTest {
+
+    /** Runs drain tasks on the offering thread. */
+    private final ChatHub<String> hub = new ChatHub<>(Runnable::run, 8, OverflowPolicy.DROP_OLDEST);
+
+    @Test
+    void broadcastReachesEveryConnectionInTheRoomOnly() {
+        Recorder a = new Recorder();
+        Recorder b = new Recorder();
+        Recorder other = new Recorder();
+        hub.join(1, a);
+        hub.join(1, b);
+        hub.join(2, other);
+
+        assertEquals(2, hub.broadcast(1, "hello", 0));
+
+        assertEquals(List.of("hello"), a.frames);
+        assertEquals(List.of("hello"), b.frames);
+        assertEquals(List.of(), other.frames);
+        assertEquals(List.of(a, b), hub.connections(1));
+    }
+
+    @Test
+    void leaveClosesTheConnectionAndDropsTheEmptyRoom() {
+        Recorder a = new Recorder();
+        hub.join(1, a);
+
+        hub.leave(1, a);
+        hub.leave(1, a);
+
+        assertEquals(1, a.closes);
+        assertEquals(0, hub.broadcast(1, "hello", 0));
+        assertEquals(List.of(), hub.connections(1));
+        assertEquals(0, hub.stats().rooms());
+    }
+
+    @Test
+    void joinRacingTheLastLeaveIsNeverLost() throws Exception {
+        // Large buffers make each join slow enough for the leave to overlap it.
+        ChatHub<String> bigBuffers = new ChatHub<>(Runnable::run, 1 << 16, OverflowPolicy.DROP_OLDEST);
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 500; i++) {
+                Recorder leaving = new Recorder();
+                Recorder joining = new Recorder();
+                bigBuffers.join(1, leaving);
+                CyclicBarrier start = new CyclicBarrier(2);
+                Future<?> leave = threads.submit(() -> {
+                    start.await();
+                    bigBuffers.leave(1, leaving);
+                    return null;
+                });
+                Future<?> join = threads.submit(() -> {
+                    start.await();
+                    bigBuffers.join(1, joining);
+                    return null;
+                });
+                leave.get();
+                join.get();
+
+                assertEquals(List.of(joining), bigBuffers.connections(1), "iteration " + i);
+                assertEquals(1, bigBuffers.broadcast(1, "m" + i, 0));
+                assertTrue(joining.frames.contains("m" + i));
+                bigBuffers.leave(1, joining);
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private static final class Recorder implements ChatConnection<String> {
+
+        final List<String> frames = new ArrayList<>();
+        int closes;
+
+        @Override
+        public void send(String frame) {
+            frames.add(frame);
+        }
+
+        @Override
+        public void dropped(long count) {
+        }
+
+        @Override
+        public void close() {
+            closes++;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.studit.core.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+class OutboundBufferTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final ChatHub.Counters counters = new ChatHub.Counters();
+    private final RecordingConnection connection = new RecordingConnection();
+    private int failures;
+
+    @Test
+    void dropOldestKeepsTheLatestFramesAndReportsTheGap() {
+        OutboundBuffer<String> buffer = buffer(3, OverflowPolicy.DROP_OLDEST);
+        for (int i = 1; i <= 5; i++) {
+            buffer.offer("m" + i, 0);
+        }
+
+        assertEquals(1, tasks.size());
+        runTasks();
+
+        assertEquals(List.of("dropped 2", "m3", "m4", "m5"), connection.events);
+        assertEquals(2, counters.dropped.sum());
+        assertEquals(3, counters.sent.sum());
+    }
+
+    @Test
+    void dropNewestKeepsAnUninterruptedPrefix() {
+        OutboundBuffer<String> buffer = buffer(3, OverflowPolicy.DROP_NEWEST);
+        for (int i = 1; i <= 5; i++) {
+            buffer.offer("m" + i, 0);
+        }
+        runTasks();
+
+        assertEquals(List.of("dropped 2", "m1", "m2", "m3"), connection.events);
+    }
+
+    @Test
+    void coalescedFrameReplacesTheQueuedOneInPlace() {
+        OutboundBuffer<String> buffer = buffer(3, OverflowPolicy.DROP_OLDEST);
+        buffer.offer("typing a", 7);
+        buffer.offer("m1", 0);
+        buffer.offer("typing b", 7);
+        buffer.offer("typing c", 7);
+
+        assertEquals(2, buffer.depth());
+        runTasks();
+
+        assertEquals(List.of("typing c", "m1"), connection.events);
+        assertEquals(2, counters.coalesced.sum());
+        assertEquals(0, counters.dropped.sum());
+    }
+
+    @Test
+    void idleBufferClosesTheConnectionImmediately() {
+        OutboundBuffer<String> buffer = buffer(3, OverflowPolicy.DROP_OLDEST);
+
+        buffer.close();
+        buffer.close();
+        buffer.offer("late", 0);
+
+        assertEquals(List.of("close"), connection.events);
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void closeDuringASendWaitsForTheDrainTask() {
+        OutboundBuffer<String> buffer = buffer(3, OverflowPolicy.DROP_OLDEST);
+        connection.onSend = frame -> buffer.close();
+        buffer.offer("m1", 0);
+        buffer.offer("m2", 0);
+
+        runTasks();
+        buffer.offer("m3", 0);
+
+        // The batch already taken is written out; the close follows it.
+        assertEquals(List.of("m1", "m2", "close"), connection.events);
+        assertTrue(tasks.isEmpty());
+        assertFalse(connection.closedDuringSend);
+        assertEquals(0, failures);
+    }
+
+    @Test
+    void failedSendReportsTheFailureWithoutClosing() {
+        OutboundBuffer<String> buffer = buffer(3, OverflowPolicy.DROP_OLDEST);
+        connection.onSend = frame -> {
+            throw new IllegalStateException("broken pipe");
+        };
+        buffer.offer("m1", 0);
+
+        runTasks();
+
+        assertEquals(1, failures);
+        assertEquals(List.of("m1"), connection.events);
+    }
+
+    @Test
+    void offerAfterTheRingEmptiesSchedulesANewDrain() {
+        OutboundBuffer<String> buffer = buffer(3, OverflowPolicy.DROP_OLDEST);
+        buffer.offer("m1", 0);
+        runTasks();
+        buffer.offer("m2", 0);
+
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertEquals(List.of("m1", "m2"), connection.events);
+    }
+
+    private OutboundBuffer<String> buffer(int capacity, OverflowPolicy policy) {
+        return new OutboundBuffer<>(connection, capacity, policy, tasks::add, counters, () -> failures++);
+    }
+
+    private void runTasks() {
+        for (Runnable task; (task = tasks.poll()) != null; ) {
+            task.run();
+        }
+    }
+
+    private static final class RecordingConnection implements ChatConnection<String> {
+
+        final List<String> events = new ArrayList<>();
+        Consumer<String> onSend = frame -> {
+        };
+        boolean sending;
+        boolean closedDuringSend;
+
+        @Override
+        public void send(String frame) {
+            events.add(frame);
+            sending = true;
+            try {
+                onSend.accept(frame);
+            } finally {
+                sending = false;
+            }
+        }
+
+        @Override
+        public void dropped(long count) throws IOException {
+            events.add("dropped " + count);
+        }
+
+        @Override
+        public void close() {
+            closedDuringSend |= sending;
+            events.add("close");
+        }
+    }
+}
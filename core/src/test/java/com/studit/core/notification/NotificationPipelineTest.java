@@ -0,0 +1,243 @@
+package com.studit.core.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class NotificationPipelineTest {
+
+    private static final Duration LONG = Duration.ofHours(1);
+
+    private final List<List<Notification>> sent = new CopyOnWriteArrayList<>();
+
+    @Test
+    void burstToOneRecipientIsFoldedIntoOneNotification() {
+        NotificationPipeline pipeline = NotificationPipeline.builder(sent::add).linger(LONG).build();
+        pipeline.start();
+        pipeline.offer(Notification.of(1, NotificationType.MEMBER_JOINED, 10, 100, 1_000));
+        pipeline.offer(Notification.of(1, NotificationType.MEMBER_JOINED, 10, 101, 2_000));
+        pipeline.offer(Notification.of(2, NotificationType.MEMBER_JOINED, 10, 101, 2_000));
+        pipeline.offer(Notification.of(1, NotificationType.MEMBER_JOINED, 10, 102, 3_000));
+
+        pipeline.close();
+
+        assertEquals(List.of(List.of(
+                new Notification(1, NotificationType.MEMBER_JOINED, 10, 102, 3, 1_000, 3_000),
+                Notification.of(2, NotificationType.MEMBER_JOINED, 10, 101, 2_000))), sent);
+        NotificationPipeline.Stats stats = pipeline.stats();
+        assertEquals(4, stats.offered());
+        assertEquals(2, stats.coalesced());
+        assertEquals(2, stats.delivered());
+    }
+
+    @Test
+    void fullBatchIsSentWithoutWaitingForTheLinger() throws Exception {
+        CountDownLatch delivered = new CountDownLatch(1);
+        NotificationPipeline pipeline = NotificationPipeline.builder(batch -> {
+            sent.add(batch);
+            delivered.countDown();
+        }).linger(LONG).batchSize(2).build();
+        pipeline.start();
+        try {
+            pipeline.offer(Notification.of(1, NotificationType.STUDY_REMINDER, 10, 0, 0));
+            pipeline.offer(Notification.of(2, NotificationType.STUDY_REMINDER, 10, 0, 0));
+
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+            assertEquals(2, sent.get(0).size());
+        } finally {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    void fullOrClosedQueueDropsInsteadOfBlocking() {
+        NotificationPipeline pipeline = NotificationPipeline.builder(sent::add).capacity(1).build();
+
+        assertTrue(pipeline.offer(Notification.of(1, NotificationType.MEMBER_LEFT, 10, 0, 0)));
+        assertTrue(pipeline.offer(Notification.of(1, NotificationType.MEMBER_LEFT, 10, 0, 0)));
+        assertFalse(pipeline.offer(Notification.of(2, NotificationType.MEMBER_LEFT, 10, 0, 0)));
+        pipeline.close();
+        assertFalse(pipeline.offer(Notification.of(1, NotificationType.MEMBER_LEFT, 10, 0, 0)));
+
+        assertEquals(2, pipeline.stats().dropped());
+        assertEquals(1, pipeline.stats().pending());
+    }
+
+    @Test
+    void failedBatchIsRetriedUntilItGoesThrough() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<Long> lags = new CopyOnWriteArrayList<>();
+        NotificationPipeline pipeline = NotificationPipeline.builder(batch -> {
+                    if (attempts.incrementAndGet() <= 2) {
+                        throw new IllegalStateException("push gateway unavailable");
+                    }
+                    sent.add(batch);
+                    delivered.countDown();
+                })
+                .linger(Duration.ZERO)
+                .retry(new RetryPolicy(5, Duration.ofMillis(1), Duration.ofMillis(5)))
+                .lagRecorder(lags::add)
+                .build();
+        pipeline.start();
+        try {
+            pipeline.offer(Notification.of(1, NotificationType.STUDY_REMINDER, 10, 0, 0));
+
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        } finally {
+            pipeline.close();
+        }
+
+        assertEquals(3, attempts.get());
+        assertEquals(1, sent.size());
+        assertEquals(2, pipeline.stats().retries());
+        assertEquals(1, pipeline.stats().delivered());
+        assertEquals(1, lags.size());
+    }
+
+    @Test
+    void batchGoesToDeadLettersAfterTheLastAttempt() throws Exception {
+        IllegalStateException failure = new IllegalStateException("push gateway unavailable");
+        AtomicInteger attempts = new AtomicInteger();
+        List<Notification> deadLetters = new CopyOnWriteArrayList<>();
+        CountDownLatch given = new CountDownLatch(1);
+        NotificationPipeline pipeline = NotificationPipeline.builder(batch -> {
+                    attempts.incrementAndGet();
+                    throw failure;
+                })
+                .linger(Duration.ZERO)
+                .retry(new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(5)))
+                .deadLetters((batch, e) -> {
+                    assertEquals(failure, e);
+                    deadLetters.addAll(batch);
+                    given.countDown();
+                })
+                .build();
+        pipeline.start();
+        Notification notification = Notification.of(1, NotificationType.STUDY_REMINDER, 10, 0, 0);
+        try {
+            pipeline.offer(notification);
+
+            assertTrue(given.await(10, TimeUnit.SECONDS));
+        } finally {
+            pipeline.close();
+        }
+
+        assertEquals(3, attempts.get());
+        assertEquals(List.of(notification), deadLetters);
+        assertEquals(2, pipeline.stats().retries());
+        assertEquals(1, pipeline.stats().deadLettered());
+        assertEquals(0, pipeline.stats().delivered());
+    }
+
+    @Test
+    void throwingDeadLetterHandlerDoesNotStopTheDispatcher() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch delivered = new CountDownLatch(1);
+        NotificationPipeline pipeline = NotificationPipeline.builder(batch -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new IllegalStateException("push gateway unavailable");
+                    }
+                    sent.add(batch);
+                    delivered.countDown();
+                })
+                .linger(Duration.ZERO)
+                .retry(new RetryPolicy(1, Duration.ZERO, Duration.ZERO))
+                .deadLetters((batch, e) -> {
+                    throw new IllegalStateException("dead-letter store unavailable");
+                })
+                .build();
+        pipeline.start();
+        try {
+            pipeline.offer(Notification.of(1, NotificationType.STUDY_REMINDER, 10, 0, 0));
+            while (pipeline.stats().deadLettered() == 0) {
+                Thread.sleep(1);
+            }
+            pipeline.offer(Notification.of(2, NotificationType.STUDY_REMINDER, 10, 0, 0));
+
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        } finally {
+            pipeline.close();
+        }
+
+        assertEquals(1, pipeline.stats().deadLettered());
+        assertEquals(1, pipeline.stats().delivered());
+    }
+
+    @Test
+    void throwingLagRecorderDoesNotStopTheDispatcher() throws Exception {
+        CountDownLatch delivered = new CountDownLatch(2);
+        NotificationPipeline pipeline = NotificationPipeline.builder(batch -> {
+                    sent.add(batch);
+                    delivered.countDown();
+                })
+                .linger(Duration.ZERO)
+                .lagRecorder(lag -> {
+                    throw new IllegalStateException("registry closed");
+                })
+                .build();
+        pipeline.start();
+        try {
+            pipeline.offer(Notification.of(1, NotificationType.STUDY_REMINDER, 10, 0, 0));
+            while (pipeline.stats().delivered() == 0) {
+                Thread.sleep(1);
+            }
+            pipeline.offer(Notification.of(2, NotificationType.STUDY_REMINDER, 10, 0, 0));
+
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        } finally {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    void closeCutsABackoffShortAndDrainsTheQueue() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch firstFailure = new CountDownLatch(1);
+        NotificationPipeline pipeline = NotificationPipeline.builder(batch -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        firstFailure.countDown();
+                        throw new IllegalStateException("push gateway unavailable");
+                    }
+                    sent.add(batch);
+                })
+                .linger(Duration.ZERO)
+                .retry(new RetryPolicy(5, LONG, LONG))
+                .shutdownTimeout(Duration.ofSeconds(30))
+                .build();
+        pipeline.start();
+        pipeline.offer(Notification.of(1, NotificationType.STUDY_REMINDER, 10, 0, 0));
+        assertTrue(firstFailure.await(10, TimeUnit.SECONDS));
+        pipeline.offer(Notification.of(2, NotificationType.STUDY_REMINDER, 10, 0, 0));
+
+        long started = System.nanoTime();
+        pipeline.close();
+
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(10));
+        assertEquals(2, sent.stream().mapToInt(List::size).sum());
+        assertEquals(0, pipeline.stats().pending());
+    }
+
+    @Test
+    void backoffIsBoundedByTheDoublingCeilingAndTheMaximum() {
+        RetryPolicy policy = new RetryPolicy(5, Duration.ofMillis(100), Duration.ofSeconds(1));
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(policy.backoffMillis(1) <= 100);
+            assertTrue(policy.backoffMillis(3) <= 400);
+            assertTrue(policy.backoffMillis(10) <= 1_000);
+            long huge = policy.backoffMillis(Integer.MAX_VALUE);
+            assertTrue(huge >= 0 && huge <= 1_000, Long.toString(huge));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(0, Duration.ZERO, Duration.ZERO));
+    }
+}
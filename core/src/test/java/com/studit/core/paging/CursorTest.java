@@ -0,0 +1,100 @@
+package com.studit.core.paging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.api.Test;
+
+class CursorTest {
+
+    @Test
+    void encodedCursorDecodesToTheSameKeys() {
+        Cursor cursor = Cursor.of(Long.MAX_VALUE, 0, -42, 7);
+
+        Cursor decoded = Cursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals(4, decoded.size());
+        assertEquals(-42, decoded.key(2));
+    }
+
+    @Test
+    void encodingIsUrlSafe() {
+        String encoded = Cursor.of(-1L, -2L).encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+    }
+
+    @Test
+    void editedCursorFailsTheChecksum() {
+        byte[] bytes = Base64.getUrlDecoder().decode(Cursor.of(1000).encode());
+        bytes[8] ^= 1;
+
+        InvalidCursorException e = assertThrows(InvalidCursorException.class,
+                () -> Cursor.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes)));
+        assertEquals("cursor checksum does not match", e.getMessage());
+    }
+
+    @Test
+    void otherVersionIsRejectedEvenWithAValidChecksum() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES + Integer.BYTES);
+        buffer.put((byte) 2).putLong(1000);
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+
+        InvalidCursorException e = assertThrows(InvalidCursorException.class,
+                () -> Cursor.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array())));
+        assertEquals("cursor version is not supported", e.getMessage());
+    }
+
+    @Test
+    void malformedValuesAreRejected() {
+        String valid = Cursor.of(1000).encode();
+
+        assertThrows(InvalidCursorException.class, () -> Cursor.decode("not base64!"));
+        assertThrows(InvalidCursorException.class, () -> Cursor.decode(""));
+        assertThrows(InvalidCursorException.class, () -> Cursor.decode(valid.substring(0, valid.length() - 2)));
+        String fiveKeys = Base64.getUrlEncoder().encodeToString(new byte[1 + 5 * Long.BYTES + Integer.BYTES]);
+        assertThrows(InvalidCursorException.class, () -> Cursor.decode(fiveKeys));
+    }
+
+    @Test
+    void singleKeyRejectsCursorsOfOtherLists() {
+        assertEquals(5, Cursor.of(5).singleKey());
+        assertThrows(InvalidCursorException.class, () -> Cursor.of(5, 6).singleKey());
+    }
+
+    @Test
+    void keyCountIsBounded() {
+        assertThrows(IllegalArgumentException.class, Cursor::of);
+        assertThrows(IllegalArgumentException.class, () -> Cursor.of(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    void pageRequestTreatsABlankCursorAsTheFirstPage() {
+        assertTrue(PageRequest.of(" ", null).isFirst());
+        assertEquals(PageRequest.DEFAULT_SIZE, PageRequest.of(null, null).size());
+        assertEquals(Cursor.of(9), PageRequest.of(Cursor.of(9).encode(), 5).after());
+        assertThrows(IllegalArgumentException.class, () -> PageRequest.of(null, PageRequest.MAX_SIZE + 1));
+    }
+
+    @Test
+    void overfetchedRowSignalsTheNextPage() {
+        PageRequest request = PageRequest.first(2);
+
+        CursorPage<Long> full = CursorPage.fromOverfetch(List.of(30L, 20L, 10L), request, Long::longValue);
+        CursorPage<Long> last = CursorPage.fromOverfetch(List.of(30L, 20L), request, Long::longValue);
+
+        assertEquals(List.of(30L, 20L), full.items());
+        assertEquals(Cursor.of(20), full.next());
+        assertNull(last.next());
+        assertEquals(Cursor.of(30), full.head(1, Long::longValue).next());
+    }
+}
@@ -0,0 +1,145 @@
+package com.studit.core.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studit.core.paging.Cursor;
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.InvalidCursorException;
+import com.studit.core.paging.PageRequest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LeaderboardTest {
+
+    private final Leaderboard board = new Leaderboard();
+
+    @Test
+    void tiesAreRankedByLowerMemberId() {
+        board.set(30, 500);
+        board.set(10, 500);
+        board.set(20, 900);
+        board.set(40, 100);
+
+        assertEquals(List.of(
+                new Leaderboard.Entry(1, 20, 900),
+                new Leaderboard.Entry(2, 10, 500),
+                new Leaderboard.Entry(3, 30, 500),
+                new Leaderboard.Entry(4, 40, 100)), board.top(10));
+        assertEquals(new Leaderboard.Entry(3, 30, 500), board.entry(30).orElseThrow());
+        assertTrue(board.entry(50).isEmpty());
+    }
+
+    @Test
+    void addMovesTheMemberAndShiftsTheRanksBetween() {
+        board.set(1, 100);
+        board.set(2, 200);
+        board.set(3, 300);
+
+        assertEquals(350, board.add(1, 250));
+        assertEquals(5, board.add(4, 5));
+
+        assertEquals(1, board.entry(1).orElseThrow().rank());
+        assertEquals(2, board.entry(3).orElseThrow().rank());
+        assertEquals(3, board.entry(2).orElseThrow().rank());
+        assertEquals(4, board.entry(4).orElseThrow().rank());
+        assertEquals(4, board.size());
+    }
+
+    @Test
+    void removeClosesTheGapInRanks() {
+        for (long id = 1; id <= 5; id++) {
+            board.set(id, 100);
+        }
+
+        board.remove(2);
+        board.remove(2);
+
+        assertEquals(List.of(1L, 3L, 4L, 5L), board.top(10).stream().map(Leaderboard.Entry::memberId).toList());
+        assertEquals(2, board.entry(3).orElseThrow().rank());
+        assertEquals(4, board.size());
+    }
+
+    @Test
+    void cursorKeepsItsPlaceAcrossTiesWhenScoresAboveChange() {
+        for (long id = 1; id <= 6; id++) {
+            board.set(id, 100);
+        }
+        CursorPage<Leaderboard.Entry> first = board.page(PageRequest.first(3));
+        assertEquals(Cursor.of(100, 3), first.next());
+
+        board.set(1, 1000);
+        board.set(7, 2000);
+        CursorPage<Leaderboard.Entry> second = board.page(new PageRequest(first.next(), 3));
+
+        assertEquals(List.of(
+                new Leaderboard.Entry(5, 4, 100),
+                new Leaderboard.Entry(6, 5, 100),
+                new Leaderboard.Entry(7, 6, 100)), second.items());
+        assertNull(second.next());
+    }
+
+    @Test
+    void pageRejectsCursorsOfOtherLists() {
+        assertThrows(InvalidCursorException.class, () -> board.page(new PageRequest(Cursor.of(1), 10)));
+    }
+
+    @Test
+    void negativeScoresAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> board.set(1, -1));
+    }
+
+    @Test
+    void ranksAndPagesMatchASortedListUnderRandomUpdates() {
+        Random random = new Random(42);
+        Map<Long, Long> scores = new HashMap<>();
+        for (int step = 0; step < 5_000; step++) {
+            long memberId = 1 + random.nextInt(300);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    board.remove(memberId);
+                    scores.remove(memberId);
+                }
+                case 1 -> {
+                    long score = random.nextInt(50);
+                    board.set(memberId, score);
+                    scores.put(memberId, score);
+                }
+                default -> {
+                    long delta = random.nextInt(20);
+                    board.add(memberId, delta);
+                    scores.merge(memberId, delta, Long::sum);
+                }
+            }
+        }
+        List<Map.Entry<Long, Long>> expected = new ArrayList<>(scores.entrySet());
+        expected.sort(Comparator.comparing(Map.Entry<Long, Long>::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        List<Leaderboard.Entry> paged = new ArrayList<>();
+        PageRequest request = PageRequest.first(17);
+        while (true) {
+            CursorPage<Leaderboard.Entry> page = board.page(request);
+            paged.addAll(page.items());
+            if (!page.hasNext()) {
+                break;
+            }
+            request = new PageRequest(page.next(), 17);
+        }
+
+        assertEquals(expected.size(), board.size());
+        assertEquals(expected.size(), paged.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Leaderboard.Entry want = new Leaderboard.Entry(i + 1, expected.get(i).getKey(), expected.get(i).getValue());
+            assertEquals(want, paged.get(i));
+            assertEquals(want, board.entry(want.memberId()).orElseThrow());
+        }
+    }
+}
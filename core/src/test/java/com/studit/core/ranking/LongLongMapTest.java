@@ -0,0 +1,70 @@
+package com.studit.core.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongLongMapTest {
+
+    private final LongLongMap map = new LongLongMap();
+
+    @Test
+    void removeShiftsLaterProbesBackSoTheyStayReachable() {
+        for (long key = 1; key <= 1000; key++) {
+            map.put(key, key * 10);
+        }
+        for (long key = 2; key <= 1000; key += 2) {
+            map.remove(key);
+        }
+
+        assertEquals(500, map.size());
+        for (long key = 1; key <= 1000; key++) {
+            assertEquals(key % 2 == 1 ? key * 10 : -1, map.get(key, -1), "key " + key);
+        }
+    }
+
+    @Test
+    void randomOperationsMatchAHashMap() {
+        Random random = new Random(7);
+        Map<Long, Long> expected = new HashMap<>();
+        for (int step = 0; step < 50_000; step++) {
+            // A small key range keeps probe runs long and removals frequent.
+            long key = 1 + random.nextInt(200);
+            if (random.nextBoolean()) {
+                long value = random.nextLong();
+                map.put(key, value);
+                expected.put(key, value);
+            } else {
+                map.remove(key);
+                expected.remove(key);
+            }
+            if (step % 1000 == 0) {
+                assertEquals(expected.size(), map.size());
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 200; key++) {
+            assertEquals(expected.getOrDefault(key, Long.MIN_VALUE), map.get(key, Long.MIN_VALUE), "key " + key);
+        }
+    }
+
+    @Test
+    void zeroIsNotAKey() {
+        assertThrows(IllegalArgumentException.class, () -> map.put(0, 1));
+        assertEquals(-1, map.get(0, -1));
+    }
+
+    @Test
+    void clearEmptiesTheMap() {
+        map.put(5, 50);
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertEquals(-1, map.get(5, -1));
+    }
+}
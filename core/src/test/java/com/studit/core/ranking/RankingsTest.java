@@ -0,0 +1,35 @@
+package com.studit.core.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class RankingsTest {
+
+    private final Rankings rankings = new Rankings();
+
+    @Test
+    void creditCountsGloballyAndInTheGroup() {
+        rankings.credit(1, 10, 500);
+        rankings.credit(1, 0, 200);
+        rankings.credit(2, 10, 0);
+
+        assertEquals(700, rankings.global().entry(1).orElseThrow().score());
+        assertEquals(500, rankings.group(10).orElseThrow().entry(1).orElseThrow().score());
+        assertEquals(1, rankings.group(10).orElseThrow().size());
+    }
+
+    @Test
+    void lateCreditDoesNotRecreateARemovedGroup() {
+        rankings.credit(1, 10, 500);
+        rankings.removeGroup(10);
+
+        rankings.credit(1, 10, 300);
+        rankings.clear();
+        rankings.credit(1, 10, 100);
+
+        assertTrue(rankings.group(10).isEmpty());
+        assertEquals(100, rankings.global().entry(1).orElseThrow().score());
+    }
+}
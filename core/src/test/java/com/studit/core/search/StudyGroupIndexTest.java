@@ -0,0 +1,201 @@
+package com.studit.core.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studit.core.paging.Cursor;
+import com.studit.core.paging.CursorPage;
+import com.studit.core.paging.PageRequest;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class StudyGroupIndexTest {
+
+    private final StudyGroupIndex index = new StudyGroupIndex();
+
+    @Test
+    void everyCriterionMustMatchAndAnyValueWithinOne() {
+        index.upsert(group(1, "Java study", Set.of("java"), "seoul", EnumSet.of(DayOfWeek.MONDAY), 9));
+        index.upsert(group(2, "Spring study", Set.of("java", "spring"), "busan", EnumSet.of(DayOfWeek.MONDAY), 20));
+        index.upsert(group(3, "Algorithm study", Set.of("algorithm"), "seoul", EnumSet.of(DayOfWeek.FRIDAY), 20));
+        index.upsert(group(4, "Java algorithm", Set.of("java", "algorithm"), "seoul",
+                EnumSet.of(DayOfWeek.SATURDAY), 14));
+
+        assertEquals(List.of(4L, 3L, 2L, 1L), ids(StudyGroupQuery.all()));
+        assertEquals(List.of(4L, 2L, 1L), ids(StudyGroupQuery.builder().tags(List.of("JAVA")).build()));
+        assertEquals(List.of(4L, 3L, 1L), ids(StudyGroupQuery.builder().region(" Seoul ").build()));
+        assertEquals(List.of(4L, 1L), ids(StudyGroupQuery.builder()
+                .tags(List.of("java"))
+                .region("seoul")
+                .build()));
+        assertEquals(List.of(3L, 2L), ids(StudyGroupQuery.builder()
+                .timeBands(List.of(TimeBand.EVENING))
+                .build()));
+        assertEquals(List.of(3L, 1L), ids(StudyGroupQuery.builder()
+                .days(List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY))
+                .region("seoul")
+                .timeBands(List.of(TimeBand.MORNING, TimeBand.EVENING))
+                .build()));
+        assertEquals(List.of(), ids(StudyGroupQuery.builder().tags(List.of("kotlin")).build()));
+    }
+
+    @Test
+    void lastWordMatchesAsPrefixAndEarlierWordsExactly() {
+        index.upsert(group(1, "Spring Boot", Set.of(), "seoul", Set.of(), 9));
+        index.upsert(group(2, "Spring Batch", Set.of(), "seoul", Set.of(), 9));
+        index.upsert(group(3, "Springer reading", Set.of(), "seoul", Set.of(), 9));
+
+        assertEquals(List.of(3L, 2L, 1L), ids(text("spr")));
+        assertEquals(List.of(2L, 1L), ids(text("spring b")));
+        assertEquals(List.of(1L), ids(text("SPRING boo")));
+        assertEquals(List.of(), ids(text("spr boot")));
+    }
+
+    @Test
+    void shortPrefixMatchesEveryExpansion() {
+        for (int i = 1; i <= 200; i++) {
+            index.upsert(group(i, "Study " + i + "기", Set.of(), "seoul", Set.of(), 9));
+        }
+        // "1기", "10기".."19기" and "100기".."199기" are 111 distinct title terms.
+        List<Long> expected = new ArrayList<>();
+        for (long i = 200; i >= 1; i--) {
+            if (Long.toString(i).startsWith("1")) {
+                expected.add(i);
+            }
+        }
+        assertTrue(expected.size() > StudyGroupIndex.LAZY_PREFIX_EXPANSIONS);
+
+        assertEquals(expected, ids(text("1")));
+        assertEquals(expected, ids(text("study 1")));
+    }
+
+    @Test
+    void updateReplacesTermsInPlace() {
+        index.upsert(group(1, "Java", Set.of("java"), "seoul", Set.of(), 9));
+        index.upsert(group(2, "Kotlin", Set.of("kotlin"), "seoul", Set.of(), 9));
+        index.upsert(group(1, "Rust", Set.of("rust"), "seoul", Set.of(), 9));
+
+        assertEquals(List.of(), ids(text("java")));
+        assertEquals(List.of(1L), ids(text("rust")));
+        assertEquals(List.of(2L, 1L), ids(StudyGroupQuery.all()));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void removedGroupIsNotRevivedByALateUpdate() {
+        index.upsert(group(1, "Java", Set.of(), "seoul", Set.of(), 9));
+        assertTrue(index.remove(1));
+        index.upsert(group(1, "Java again", Set.of(), "seoul", Set.of(), 9));
+
+        assertEquals(List.of(), ids(StudyGroupQuery.all()));
+        assertEquals(0, index.size());
+        assertFalse(index.remove(1));
+    }
+
+    @Test
+    void cursorResumesAfterTheLastHitWasDeleted() {
+        for (int i = 1; i <= 7; i++) {
+            index.upsert(group(i, "Group " + i, Set.of(), "seoul", Set.of(), 9));
+        }
+        CursorPage<StudyGroupDocument> first = index.search(StudyGroupQuery.all(), PageRequest.first(3));
+        assertEquals(List.of(7L, 6L, 5L), ids(first));
+
+        index.remove(5);
+        CursorPage<StudyGroupDocument> second = index.search(StudyGroupQuery.all(), new PageRequest(first.next(), 3));
+
+        assertEquals(List.of(4L, 3L, 2L), ids(second));
+    }
+
+    @Test
+    void cursorResumesInArrivalOrderWhenCreatesCommittedOutOfIdOrder() {
+        for (long id : new long[] {1, 2, 5, 3, 4}) {
+            index.upsert(group(id, "Group " + id, Set.of(), "seoul", Set.of(), 9));
+        }
+        CursorPage<StudyGroupDocument> first = index.search(StudyGroupQuery.all(), PageRequest.first(2));
+        assertEquals(List.of(4L, 3L), ids(first));
+
+        index.remove(3);
+        CursorPage<StudyGroupDocument> second = index.search(StudyGroupQuery.all(), new PageRequest(first.next(), 2));
+        CursorPage<StudyGroupDocument> third = index.search(StudyGroupQuery.all(), new PageRequest(second.next(), 2));
+
+        assertEquals(List.of(5L, 2L), ids(second));
+        assertEquals(List.of(1L), ids(third));
+        assertNull(third.next());
+    }
+
+    @Test
+    void cursorForAGroupDeletedBeforeTheBulkLoadResumesByIdOrder() {
+        for (long id : new long[] {1, 2, 4, 5}) {
+            index.upsert(group(id, "Group " + id, Set.of(), "seoul", Set.of(), 9));
+        }
+
+        CursorPage<StudyGroupDocument> page = index.search(StudyGroupQuery.all(), new PageRequest(Cursor.of(3), 10));
+
+        assertEquals(List.of(2L, 1L), ids(page));
+    }
+
+    @Test
+    void leapfrogIntersectionFindsCommonOrdinalsFromTheTop() {
+        DocIdSet evens = postings(0, 2, 4, 6, 8, 10, 12);
+        DocIdSet threes = postings(0, 3, 6, 9, 12);
+        DocIdSet sparse = postings(1, 6, 11, 12);
+
+        DocIdSet both = DocIdSet.intersection(new DocIdSet[] {sparse, threes, evens});
+
+        assertEquals(12, both.previous(100));
+        assertEquals(6, both.previous(11));
+        assertEquals(DocIdSet.NO_MORE_DOCS, both.previous(5));
+        assertEquals(4, both.cost());
+    }
+
+    @Test
+    void unionReturnsTheGreatestOrdinalOfAnySet() {
+        DocIdSet either = DocIdSet.union(new DocIdSet[] {postings(1, 5), postings(3, 4)});
+
+        assertEquals(5, either.previous(9));
+        assertEquals(4, either.previous(4));
+        assertEquals(1, either.previous(2));
+        assertEquals(DocIdSet.NO_MORE_DOCS, either.previous(0));
+    }
+
+    private List<Long> ids(StudyGroupQuery query) {
+        List<Long> ids = new ArrayList<>();
+        PageRequest page = PageRequest.first(PageRequest.MAX_SIZE);
+        while (true) {
+            CursorPage<StudyGroupDocument> result = index.search(query, page);
+            ids.addAll(ids(result));
+            if (!result.hasNext()) {
+                return ids;
+            }
+            page = new PageRequest(result.next(), PageRequest.MAX_SIZE);
+        }
+    }
+
+    private static List<Long> ids(CursorPage<StudyGroupDocument> page) {
+        return page.items().stream().map(StudyGroupDocument::groupId).toList();
+    }
+
+    private static StudyGroupQuery text(String text) {
+        return StudyGroupQuery.builder().text(text).build();
+    }
+
+    private static PostingList postings(int... ordinals) {
+        PostingList list = new PostingList();
+        for (int ordinal : ordinals) {
+            list.add(ordinal);
+        }
+        return list;
+    }
+
+    private static StudyGroupDocument group(long id, String title, Set<String> tags, String region,
+                                            Set<DayOfWeek> days, int hour) {
+        return new StudyGroupDocument(id, title, tags, region, days, LocalTime.of(hour, 0));
+    }
+}
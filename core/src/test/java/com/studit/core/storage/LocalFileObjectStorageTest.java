@@ -0,0 +1,113 @@
+package com.studit.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalFileObjectStorageTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void storedObjectIsReadBackByRange() throws IOException {
+        LocalFileObjectStorage storage = new LocalFileObjectStorage(root);
+
+        StoredObject stored = storage.put("groups/1/notes.txt", body("hello, world"), 100);
+
+        assertEquals(new StoredObject("groups/1/notes.txt", 12,
+                "09ca7e4eaa6e8ae9c7d261167129184883644d07dfba7cbfbc4c8a2e08360d5b"), stored);
+        try (ObjectContent content = storage.open("groups/1/notes.txt").orElseThrow()) {
+            assertEquals(12, content.size());
+            assertEquals("world", read(content, 7, 5));
+            assertEquals("hello, world", read(content, 0, 12));
+            assertEquals(root.resolve("groups/1/notes.txt"), content.file().orElseThrow());
+        }
+    }
+
+    @Test
+    void putReplacesTheObjectWhileOpenContentKeepsTheOldBytes() throws IOException {
+        LocalFileObjectStorage storage = new LocalFileObjectStorage(root);
+        storage.put("a", body("first"), 100);
+
+        try (ObjectContent content = storage.open("a").orElseThrow()) {
+            storage.put("a", body("second"), 100);
+
+            assertEquals("first", read(content, 0, 5));
+        }
+        try (ObjectContent content = storage.open("a").orElseThrow()) {
+            assertEquals("second", read(content, 0, 6));
+        }
+    }
+
+    @Test
+    void tooLargeUploadLeavesNothingBehind() throws IOException {
+        LocalFileObjectStorage storage = new LocalFileObjectStorage(root);
+
+        ObjectTooLargeException e = assertThrows(ObjectTooLargeException.class,
+                () -> storage.put("big", new ByteArrayInputStream(new byte[200_000]), 100_000));
+
+        assertEquals("object is larger than 100000 bytes", e.getMessage());
+        assertTrue(storage.open("big").isEmpty());
+        try (Stream<Path> incoming = Files.list(root.resolve(".incoming"))) {
+            assertEquals(0, incoming.count());
+        }
+    }
+
+    @Test
+    void keysCannotLeaveTheRoot() {
+        LocalFileObjectStorage storage = new LocalFileObjectStorage(root);
+
+        for (String key : new String[] {"../escape", "a/../b", ".incoming/x", "/absolute", "a//b", "a/", ""}) {
+            assertThrows(IllegalArgumentException.class, () -> storage.open(key), key);
+        }
+    }
+
+    @Test
+    void deleteAllRemovesOnlyThePrefix() throws IOException {
+        LocalFileObjectStorage storage = new LocalFileObjectStorage(root);
+        storage.put("groups/1/a", body("a"), 10);
+        storage.put("groups/1/sub/b", body("b"), 10);
+        storage.put("groups/10/c", body("c"), 10);
+
+        storage.deleteAll("groups/1/");
+        storage.deleteAll("groups/2/");
+
+        assertTrue(storage.open("groups/1/a").isEmpty());
+        assertTrue(storage.open("groups/1/sub/b").isEmpty());
+        assertFalse(Files.exists(root.resolve("groups/1")));
+        storage.open("groups/10/c").orElseThrow().close();
+        assertThrows(IllegalArgumentException.class, () -> storage.deleteAll("groups/10"));
+    }
+
+    @Test
+    void deleteReportsWhetherTheObjectExisted() throws IOException {
+        LocalFileObjectStorage storage = new LocalFileObjectStorage(root);
+        storage.put("a", body("a"), 10);
+
+        assertTrue(storage.delete("a"));
+        assertFalse(storage.delete("a"));
+    }
+
+    private static ByteArrayInputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(ObjectContent content, long position, long count) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        content.transferTo(position, count, Channels.newChannel(out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}